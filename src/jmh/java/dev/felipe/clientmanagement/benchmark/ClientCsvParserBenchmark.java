@@ -0,0 +1,115 @@
+package dev.felipe.clientmanagement.benchmark;
+
+import dev.felipe.clientmanagement.service.ClientCsvByteParser;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.unit.DataSize;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Leitura do CSV de importação (Nome,Email,Telefone,Criado em,Atualizado em) até as Strings dos
+// campos e as duas datas: commons-csv como a importação fazia vs. o parser de bytes, sequencial
+// (um segmento por vez) e paralelo. Não inclui validação nem banco
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class ClientCsvParserBenchmark {
+
+    private static final String[] FIRST_NAMES =
+            {"Maria", "João", "Ana", "Pedro", "Lucas", "Julia", "Carlos", "Fernanda", "Rafael", "Beatriz"};
+    private static final String[] LAST_NAMES =
+            {"Silva", "Souza", "Oliveira", "Santos", "Pereira", "Costa", "Rodrigues", "Almeida"};
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private byte[] csv;
+    private ClientCsvByteParser sequential;
+    private ClientCsvByteParser parallel;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder("Nome,Email,Telefone,Criado em,Atualizado em\n");
+
+        for (int i = 0; i < rows; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+            // Uma linha em cada cem com o nome entre aspas, como o Excel exporta "Sobrenome, Nome"
+            if (i % 100 == 0) name = "\"" + name.replace(' ', ',') + "\"";
+
+            builder.append(name).append(",cliente").append(i).append("@corp").append(random.nextInt(100))
+                    .append(".com,").append(String.format("119%08d", random.nextInt(100_000_000)))
+                    .append(",2025-01-").append(String.format("%02d", 1 + random.nextInt(28)))
+                    .append(",2025-02-").append(String.format("%02d", 1 + random.nextInt(28))).append('\n');
+        }
+
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+        sequential = new ClientCsvByteParser(true, 1, DataSize.ofMegabytes(4), DataSize.ofMegabytes(8));
+        parallel = new ClientCsvByteParser(true, Runtime.getRuntime().availableProcessors(),
+                DataSize.ofMegabytes(4), DataSize.ofMegabytes(8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        sequential.close();
+        parallel.close();
+    }
+
+    @Benchmark
+    public void commonsCsv(Blackhole blackhole) throws IOException {
+        try (Reader reader = new BufferedReader(new InputStreamReader(
+                new ByteArrayInputStream(csv), StandardCharsets.UTF_8));
+             CSVParser parser = FORMAT.parse(reader)) {
+
+            for (CSVRecord record : parser) {
+                blackhole.consume(record.get("Nome"));
+                blackhole.consume(record.get("Email"));
+                blackhole.consume(record.get("Telefone"));
+                blackhole.consume(LocalDate.parse(record.get("Criado em"), DATE_FORMATTER));
+                blackhole.consume(LocalDate.parse(record.get("Atualizado em"), DATE_FORMATTER));
+            }
+        }
+    }
+
+    @Benchmark
+    public void byteParserSequential(Blackhole blackhole) {
+        parse(sequential, blackhole);
+    }
+
+    @Benchmark
+    public void byteParserParallel(Blackhole blackhole) {
+        parse(parallel, blackhole);
+    }
+
+    private void parse(ClientCsvByteParser parser, Blackhole blackhole) {
+        parser.parse(ByteBuffer.wrap(csv), () -> false, row -> {
+            blackhole.consume(row.name());
+            blackhole.consume(row.email());
+            blackhole.consume(row.phone());
+            blackhole.consume(ClientCsvByteParser.parseDate(row.createdAt()));
+            blackhole.consume(ClientCsvByteParser.parseDate(row.updatedAt()));
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package dev.felipe.clientmanagement.benchmark;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import dev.felipe.clientmanagement.service.ClientExportEncoder;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Formatos da exportação sobre 1M de linhas geradas, sem banco: linhas por segundo no score e,
+// no fim de cada formato, o tamanho da saída comparado ao CSV
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@OperationsPerInvocation(ClientExportFormatBenchmark.ROWS)
+public class ClientExportFormatBenchmark {
+
+    static final int ROWS = 1_000_000;
+
+    private static final String[] FIRST_NAMES =
+            {"Maria", "João", "Ana", "Pedro", "Lucas", "Julia", "Carlos", "Fernanda", "Rafael", "Beatriz"};
+    private static final String[] LAST_NAMES =
+            {"Silva", "Souza", "Oliveira", "Santos", "Pereira", "Costa", "Rodrigues", "Almeida"};
+
+    @Param({"CSV", "CSV_GZIP", "NDJSON", "COLUMNAR"})
+    public ClientExportFormat format;
+
+    private ClientExportRow[] rows;
+    private long csvSize;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        rows = new ClientExportRow[ROWS];
+
+        // Importações em lote: datas de criação próximas entre linhas vizinhas
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 0);
+        for (int i = 0; i < ROWS; i++) {
+            if (random.nextInt(1000) == 0) createdAt = createdAt.plusDays(1);
+
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+
+            rows[i] = new ClientExportRow(name,
+                    "cliente" + i + "@corp" + random.nextInt(100) + ".com",
+                    String.format("119%08d", random.nextInt(100_000_000)),
+                    createdAt,
+                    createdAt.plusDays(random.nextInt(30)));
+        }
+
+        csvSize = size(ClientExportFormat.CSV);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        long size = size(format);
+        System.out.printf("%n%s: %,d bytes, %.1f bytes por linha, %.0f%% do CSV%n",
+                format, size, (double) size / ROWS, 100.0 * size / csvSize);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return size(format);
+    }
+
+    private long size(ClientExportFormat format) throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        write(format, output);
+        return output.count;
+    }
+
+    // Como ClientFilesService.export, sem o banco
+    private void write(ClientExportFormat format, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzip = format == ClientExportFormat.CSV_GZIP
+                ? new GZIPOutputStream(outputStream, 64 * 1024)
+                : null;
+        ClientExportEncoder encoder = ClientExportEncoder.of(format, gzip != null ? gzip : outputStream);
+
+        encoder.writeHeader();
+        for (ClientExportRow row : rows) {
+            encoder.write(row);
+        }
+        encoder.finish();
+        if (gzip != null) gzip.finish();
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.felipe.clientmanagement.benchmark;
+
+import dev.felipe.clientmanagement.security.JwtService;
+import dev.felipe.clientmanagement.security.TokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET =
+            "VGhpcy1pcy1hLXZlcnktc2VjdXJlLWFuZC1sb25nLXNlY3JldC1rZXk=";
+
+    private SecretKey key;
+    private JwtService coldService;
+    private JwtService warmService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+        // Cache com tamanho 0 descarta toda entrada: mede parser pré-construído + digest
+        coldService = new JwtService(SECRET, 0, new SimpleMeterRegistry());
+        warmService = new JwtService(SECRET, 10_000, new SimpleMeterRegistry());
+
+        token = warmService.generateToken(1L, "felipe@email.com", "Felipe", TokenType.ACCESS);
+        warmService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims newParserPerCall() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims cold() {
+        return coldService.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims warm() {
+        return warmService.validateToken(token);
+    }
+}
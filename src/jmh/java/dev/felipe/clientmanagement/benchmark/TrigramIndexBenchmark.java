@@ -0,0 +1,69 @@
+package dev.felipe.clientmanagement.benchmark;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.service.OwnerTrigramIndex;
+import org.openjdk.jmh.annotations.*;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Compara o índice com uma varredura linear das mesmas linhas, que é o trabalho que o
+// Postgres faz com LOWER(...) LIKE '%x%' (sem contar I/O e rede)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TrigramIndexBenchmark {
+
+    private static final String[] FIRST_NAMES =
+            {"Maria", "João", "Ana", "Pedro", "Lucas", "Julia", "Carlos", "Fernanda", "Rafael", "Beatriz"};
+    private static final String[] LAST_NAMES =
+            {"Silva", "Souza", "Oliveira", "Santos", "Pereira", "Costa", "Rodrigues", "Almeida"};
+
+    @Param({"10000", "100000", "1000000"})
+    public int clients;
+
+    @Param({"oliveira", "@corp7.com", "98765"})
+    public String term;
+
+    private OwnerTrigramIndex index;
+    private ClientSearchRow[] rows;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new OwnerTrigramIndex();
+        rows = new ClientSearchRow[clients];
+
+        for (int i = 0; i < clients; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = "cliente" + i + "@corp" + random.nextInt(100) + ".com";
+            String phone = String.format("119%08d", random.nextInt(100_000_000));
+
+            rows[i] = new ClientSearchRow((long) i, name, email, phone);
+            index.put(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public long[] trigramIndex() {
+        return index.search(term);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String query = term.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (ClientSearchRow row : rows) {
+            if (row.name().toLowerCase(Locale.ROOT).contains(query)
+                    || row.email().toLowerCase(Locale.ROOT).contains(query)
+                    || row.phone().contains(query)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
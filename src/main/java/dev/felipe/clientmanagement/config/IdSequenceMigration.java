@@ -0,0 +1,46 @@
+package dev.felipe.clientmanagement.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+// Bancos criados com GenerationType.IDENTITY: remove a identidade das colunas id e
+// adianta as sequências (criadas pelo ddl-auto) para depois do maior id existente.
+// Roda na inicialização do contexto, antes do servidor aceitar requisições, e é idempotente
+@Component
+public class IdSequenceMigration implements InitializingBean {
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "clients", "clients_seq",
+            "users", "users_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    // O EntityManagerFactory garante que o schema (e as sequências) já foi atualizado
+    public IdSequenceMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                               @Value("${database.id-sequence.migrate:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) return;
+
+        SEQUENCES.forEach((table, sequence) -> {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+
+            // Com o otimizador pooled o próximo nextval (MAX + incremento) é o topo do bloco,
+            // então o primeiro id gerado é MAX + 1; a sequência nunca volta para trás
+            jdbcTemplate.queryForObject("""
+                    SELECT setval('%s', GREATEST(
+                           (SELECT COALESCE(MAX(id), 0) FROM %s),
+                           (SELECT last_value FROM %s)))
+                    """.formatted(sequence, table, sequence), Long.class);
+        });
+    }
+}
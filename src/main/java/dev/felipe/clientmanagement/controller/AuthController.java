@@ -3,9 +3,11 @@ package dev.felipe.clientmanagement.controller;
 import dev.felipe.clientmanagement.dto.user.UserLoginDTO;
 import dev.felipe.clientmanagement.dto.user.UserRegisterDTO;
 import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.security.AuthRateLimiter;
 import dev.felipe.clientmanagement.security.JwtService;
 import dev.felipe.clientmanagement.service.UserService;
 import dev.felipe.clientmanagement.utils.CookieUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
@@ -24,10 +26,13 @@ public class AuthController {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final AuthRateLimiter authRateLimiter;
 
-    public AuthController(JwtService jwtService, UserService userService) {
+    public AuthController(JwtService jwtService, UserService userService,
+                          AuthRateLimiter authRateLimiter) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.authRateLimiter = authRateLimiter;
     }
 
     @PostMapping("/auth/refresh")
@@ -47,8 +52,12 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<Void> login(@RequestBody @Valid UserLoginDTO dto,
+                                      HttpServletRequest request,
                                       HttpServletResponse response) {
 
+        // Atrás de um proxy confiável o endereço já vem do X-Forwarded-For (server.forward-headers-strategy)
+        authRateLimiter.checkLogin(request.getRemoteAddr(), dto.email());
+
         User user = userService.authenticateUser(dto);
 
         String accessToken = jwtService
@@ -68,7 +77,10 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<Map<String, String>> register(@RequestBody @Valid UserRegisterDTO dto) {
+    public ResponseEntity<Map<String, String>> register(@RequestBody @Valid UserRegisterDTO dto,
+                                                        HttpServletRequest request) {
+        authRateLimiter.checkRegister(request.getRemoteAddr(), dto.email());
+
         userService.saveUser(dto);
 
         return ResponseEntity.status(HttpStatus.CREATED)
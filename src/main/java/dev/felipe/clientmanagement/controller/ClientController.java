@@ -1,20 +1,22 @@
 package dev.felipe.clientmanagement.controller;
 
+import dev.felipe.clientmanagement.dto.client.ClientBatchRequestDTO;
+import dev.felipe.clientmanagement.dto.client.ClientBatchResponseDTO;
+import dev.felipe.clientmanagement.dto.client.ClientCursorPage;
 import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientOffsetPage;
 import dev.felipe.clientmanagement.dto.client.ClientResponseDTO;
-import dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO;
-import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.dto.client.ClientSort;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.security.TokenType;
 import dev.felipe.clientmanagement.security.JwtService;
+import dev.felipe.clientmanagement.service.ClientBatchService;
 import dev.felipe.clientmanagement.service.ClientService;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,10 +24,13 @@ import java.util.Map;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientBatchService clientBatchService;
     private final JwtService jwtService;
 
-    public ClientController(ClientService clientService, JwtService jwtService) {
+    public ClientController(ClientService clientService, ClientBatchService clientBatchService,
+                            JwtService jwtService) {
         this.clientService = clientService;
+        this.clientBatchService = clientBatchService;
         this.jwtService = jwtService;
     }
 
@@ -40,34 +45,45 @@ public class ClientController {
                 .body(Map.of("message","Cliente registrado com sucesso."));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ClientBatchResponseDTO> batch(
+            @AuthenticationPrincipal User user,
+            @RequestBody @Valid ClientBatchRequestDTO dto) {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(clientBatchService.execute(dto.operations(), user));
+    }
+
     @GetMapping()
     public ResponseEntity<ClientResponseDTO> getAllClientsByUser(
             @AuthenticationPrincipal User user,
-            @RequestParam int page,
-            @RequestParam(required = false) String search) {
-
-        Page<Client> clients = clientService.getClients(user, page, search);
-
-        List<ClientResponseItemsDTO> response = clients.stream()
-                .map(client -> new ClientResponseItemsDTO(
-                        client.getId(),
-                        client.getName(),
-                        client.getEmail(),
-                        client.getPhone(),
-                        client.getCreatedAt(),
-                        client.getUpdatedAt()
-                ))
-                .toList();
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "createdAt") String sort) {
+
+        // Com "cursor" presente (vazio na primeira página) usa paginação por cursor
+        if (cursor != null) {
+            ClientCursorPage clients = clientService
+                    .getClientsByCursor(user, cursor, search, ClientSort.fromParam(sort));
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(new ClientResponseDTO(clients.clients(), null, false,
+                            clients.nextCursor() != null, clients.nextCursor(), clients.prevCursor()));
+        }
+
+        ClientOffsetPage clients = clientService.getClientsPage(user, page, search);
 
         return ResponseEntity.status(HttpStatus.OK)
-                .body(new ClientResponseDTO(response, clients.getTotalElements()));
+                .body(new ClientResponseDTO(clients.clients(), clients.total(),
+                        clients.totalExact(), clients.hasMore(), null, null));
 
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Map<String, String>> update(
             @AuthenticationPrincipal User user,
-            @PathVariable Long id, @RequestBody ClientDTO dto) {
+            @PathVariable Long id, @RequestBody @Valid ClientDTO dto) {
 
         clientService.updateClient(id, dto, user);
 
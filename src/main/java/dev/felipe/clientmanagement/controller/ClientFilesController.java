@@ -1,7 +1,17 @@
 package dev.felipe.clientmanagement.controller;
 
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.dto.client.ClientImportJobDTO;
+import dev.felipe.clientmanagement.dto.client.ClientImportPolicy;
+import dev.felipe.clientmanagement.dto.client.ClientImportResult;
 import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.service.ClientExportCache;
 import dev.felipe.clientmanagement.service.ClientFilesService;
+import dev.felipe.clientmanagement.service.ClientImportJobService;
+import dev.felipe.clientmanagement.service.ClientImportService;
+import dev.felipe.clientmanagement.utils.FileResponseUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.io.IOException;
 
@@ -16,34 +27,130 @@ import java.io.IOException;
 @RequestMapping("api/v1/auth/clients/files/")
 public class ClientFilesController {
 
-    private final ClientFilesService clientFilesService;;
+    private final ClientFilesService clientFilesService;
+    private final ClientExportCache clientExportCache;
+    private final ClientImportService clientImportService;
+    private final ClientImportJobService clientImportJobService;
 
-    public ClientFilesController(ClientFilesService clientFilesService) {
+    public ClientFilesController(ClientFilesService clientFilesService,
+                                 ClientExportCache clientExportCache,
+                                 ClientImportService clientImportService,
+                                 ClientImportJobService clientImportJobService) {
         this.clientFilesService = clientFilesService;
+        this.clientExportCache = clientExportCache;
+        this.clientImportService = clientImportService;
+        this.clientImportJobService = clientImportJobService;
     }
 
+    // Formato pelo parâmetro "format" (csv, csv.gz, ndjson, columnar) ou, sem ele, pelo Accept.
+    // Com o cache, uma exportação já gerada para a versão atual dos dados sai do arquivo, com Range e ETag
     @GetMapping("/export")
     public ResponseEntity<StreamingResponseBody> export(
-            @AuthenticationPrincipal User user
-    ) {
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+
+        ClientExportFormat exportFormat = format != null
+                ? ClientExportFormat.fromParam(format)
+                : ClientExportFormat.fromAccept(accept);
+
+        if (!clientExportCache.isEnabled()) {
+            StreamingResponseBody stream = outputStream -> {
+                clientFilesService.export(user, exportFormat, outputStream);
+            };
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(exportFormat))
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .contentType(exportFormat.mediaType())
+                    .body(stream);
+        }
+
+        ClientExportCache.Key key = clientExportCache.key(user, exportFormat);
+        ClientExportCache.Artifact artifact = clientExportCache.find(key);
+
+        if (artifact != null) {
+            try (ClientExportCache.Artifact served = artifact) {
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(exportFormat));
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                response.setContentType(exportFormat.mediaType().toString());
+                FileResponseUtils.serve(request, response, served.channel(), served.size(), key.etag());
+            }
+            return null;
+        }
+
+        // Fora do cache, mas a versão não mudou desde o download que o cliente já tem
+        if (FileResponseUtils.notModified(request, key.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(key.etag())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .build();
+        }
 
+        // A primeira geração sai inteira mesmo com Range; as próximas já atendem o intervalo
         StreamingResponseBody stream = outputStream -> {
-            clientFilesService.generateCSV(user, outputStream);
+            clientExportCache.export(user, key, outputStream);
         };
 
         return ResponseEntity.status(HttpStatus.OK)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clients.csv\"")
-                .contentType(MediaType.valueOf("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(exportFormat))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .eTag(key.etag())
+                .contentType(exportFormat.mediaType())
                 .body(stream);
     }
 
     @PostMapping("/import")
-    public ResponseEntity<Void> importClients(
+    public ResponseEntity<ClientImportResult> importClients(
+            @AuthenticationPrincipal User user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "skip") String duplicates) throws IOException {
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(clientImportService.importCSV(file, user, ClientImportPolicy.fromParam(duplicates)));
+    }
+
+    @PostMapping("/imports")
+    public ResponseEntity<ClientImportJobDTO> submitImport(
+            @AuthenticationPrincipal User user,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "skip") String duplicates) throws IOException {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(clientImportJobService.submit(file, user, ClientImportPolicy.fromParam(duplicates)));
+    }
+
+    @GetMapping("/imports/{id}")
+    public ResponseEntity<ClientImportJobDTO> importStatus(
             @AuthenticationPrincipal User user,
-            @RequestParam("file") MultipartFile file) throws IOException {
+            @PathVariable String id) {
 
-        clientFilesService.importCSV(file, user);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(clientImportJobService.status(id, user));
+    }
+
+    @GetMapping(value = "/imports/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter importEvents(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+
+        return clientImportJobService.subscribe(id, user);
+    }
+
+    @DeleteMapping("/imports/{id}")
+    public ResponseEntity<ClientImportJobDTO> cancelImport(
+            @AuthenticationPrincipal User user,
+            @PathVariable String id) {
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(clientImportJobService.cancel(id, user));
+    }
 
-        return ResponseEntity.ok().build();
+    private static String contentDisposition(ClientExportFormat format) {
+        return "attachment; filename=\"" + format.filename() + "\"";
     }
 }
@@ -0,0 +1,16 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+// "id" é usado por UPDATE e DELETE; "client" por CREATE e UPDATE
+public record ClientBatchOperation(
+        @NotNull
+        ClientBatchOperationType type,
+
+        Long id,
+
+        @Valid
+        ClientDTO client
+) {
+}
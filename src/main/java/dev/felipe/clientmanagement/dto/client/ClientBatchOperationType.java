@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.dto.client;
+
+public enum ClientBatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
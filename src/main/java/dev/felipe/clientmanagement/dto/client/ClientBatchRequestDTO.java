@@ -0,0 +1,13 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ClientBatchRequestDTO(
+        @NotEmpty
+        @Size(max = 1000)
+        List<@Valid ClientBatchOperation> operations
+) {
+}
@@ -0,0 +1,10 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.util.List;
+
+public record ClientBatchResponseDTO(
+        List<ClientBatchResult> results,
+        int succeeded,
+        int failed
+) {
+}
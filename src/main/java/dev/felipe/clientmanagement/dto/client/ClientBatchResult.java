@@ -0,0 +1,10 @@
+package dev.felipe.clientmanagement.dto.client;
+
+// "status" segue o código HTTP que a operação teria recebido isoladamente
+public record ClientBatchResult(
+        int index,
+        int status,
+        Long id,
+        String message
+) {
+}
@@ -0,0 +1,54 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record ClientCursor(
+        ClientSort sort,
+        boolean backward,
+        Long id,
+        String value
+) {
+
+    public static ClientCursor after(ClientSort sort, ClientResponseItemsDTO client) {
+        return new ClientCursor(sort, false, client.id(), sortValue(sort, client));
+    }
+
+    public static ClientCursor before(ClientSort sort, ClientResponseItemsDTO client) {
+        return new ClientCursor(sort, true, client.id(), sortValue(sort, client));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(value);
+    }
+
+    // O cursor é opaco para o frontend: "ordenação|direção|id|valor" em Base64 URL-safe
+    public String encode() {
+        String raw = sort.param() + "|" + (backward ? "b" : "a") + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ClientCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+
+            ClientCursor decoded = new ClientCursor(
+                    ClientSort.fromParam(parts[0]),
+                    "b".equals(parts[1]),
+                    Long.valueOf(parts[2]),
+                    parts[3]);
+
+            if (decoded.sort() == ClientSort.CREATED_AT) decoded.createdAt();
+            return decoded;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    private static String sortValue(ClientSort sort, ClientResponseItemsDTO client) {
+        return sort == ClientSort.NAME ? client.name() : client.createdAt().toString();
+    }
+}
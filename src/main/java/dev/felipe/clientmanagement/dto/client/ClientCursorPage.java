@@ -0,0 +1,10 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.util.List;
+
+public record ClientCursorPage(
+        List<ClientResponseItemsDTO> clients,
+        String nextCursor,
+        String prevCursor
+) {
+}
@@ -0,0 +1,61 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import org.springframework.http.MediaType;
+import java.util.Comparator;
+import java.util.List;
+
+// Formatos da exportação, escolhidos pelo parâmetro "format" ou, sem ele, pelo Accept
+public enum ClientExportFormat {
+    CSV("csv", "text/csv", "clients.csv"),
+    CSV_GZIP("csv.gz", "application/gzip", "clients.csv.gz"),
+    NDJSON("ndjson", "application/x-ndjson", "clients.ndjson"),
+    COLUMNAR("columnar", "application/vnd.clientmanagement.columnar", "clients.col");
+
+    private final String param;
+    private final MediaType mediaType;
+    private final String filename;
+
+    ClientExportFormat(String param, String mediaType, String filename) {
+        this.param = param;
+        this.mediaType = MediaType.valueOf(mediaType);
+        this.filename = filename;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String filename() {
+        return filename;
+    }
+
+    public static ClientExportFormat fromParam(String param) {
+        for (ClientExportFormat format : values()) {
+            if (format.param.equals(param)) return format;
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + param);
+    }
+
+    // O tipo de maior qualidade que for um dos formatos; "*/*", ausência ou nenhum conhecido: CSV
+    public static ClientExportFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) return CSV;
+
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept).stream()
+                .filter(type -> type.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .toList();
+
+        for (MediaType type : accepted) {
+            if (type.isWildcardType()) return CSV;
+
+            for (ClientExportFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(type)) return format;
+            }
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,8 @@
+package dev.felipe.clientmanagement.dto.client;
+
+public record ClientExportRange(
+        Long minId,
+        Long maxId,
+        Long count
+) {
+}
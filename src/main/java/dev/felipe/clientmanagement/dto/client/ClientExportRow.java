@@ -0,0 +1,12 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.time.LocalDateTime;
+
+public record ClientExportRow(
+        String name,
+        String email,
+        String phone,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.dto.client;
+
+public record ClientImportError(
+        long line,
+        String message
+) {
+}
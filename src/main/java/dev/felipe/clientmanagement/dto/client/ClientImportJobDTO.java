@@ -0,0 +1,18 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.util.List;
+
+public record ClientImportJobDTO(
+        String id,
+        String status,
+        long rowsRead,
+        long imported,
+        long updated,
+        long unchanged,
+        long rejected,
+        double rowsPerSecond,
+        List<ClientImportError> errors,
+        boolean errorsTruncated,
+        String message
+) {
+}
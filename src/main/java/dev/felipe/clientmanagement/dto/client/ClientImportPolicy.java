@@ -0,0 +1,26 @@
+package dev.felipe.clientmanagement.dto.client;
+
+// O que fazer com linhas cujo email/telefone já existe entre os clientes do usuário
+// ou se repete no próprio arquivo
+public enum ClientImportPolicy {
+    SKIP("skip"),
+    FAIL("fail"),
+    UPSERT("upsert");
+
+    private final String param;
+
+    ClientImportPolicy(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static ClientImportPolicy fromParam(String param) {
+        for (ClientImportPolicy policy : values()) {
+            if (policy.param.equals(param)) return policy;
+        }
+        throw new IllegalArgumentException("Política de duplicados inválida: " + param);
+    }
+}
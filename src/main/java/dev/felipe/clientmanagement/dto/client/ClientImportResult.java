@@ -0,0 +1,15 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.util.List;
+
+// "errors" guarda só os primeiros erros; "errorsTruncated" indica que houve mais
+public record ClientImportResult(
+        long rowsRead,
+        long imported,
+        long updated,
+        long unchanged,
+        long rejected,
+        List<ClientImportError> errors,
+        boolean errorsTruncated
+) {
+}
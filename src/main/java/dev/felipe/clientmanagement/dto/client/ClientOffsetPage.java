@@ -0,0 +1,11 @@
+package dev.felipe.clientmanagement.dto.client;
+
+import java.util.List;
+
+public record ClientOffsetPage(
+        List<ClientResponseItemsDTO> clients,
+        long total,
+        boolean totalExact,
+        boolean hasMore
+) {
+}
@@ -4,6 +4,10 @@ import java.util.List;
 
 public record ClientResponseDTO(
         List<ClientResponseItemsDTO> clients,
-        long total
+        Long total,
+        boolean totalExact,
+        boolean hasMore,
+        String nextCursor,
+        String prevCursor
 ) {
 }
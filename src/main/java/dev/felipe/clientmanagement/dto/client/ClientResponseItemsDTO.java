@@ -1,5 +1,6 @@
 package dev.felipe.clientmanagement.dto.client;
 
+import dev.felipe.clientmanagement.model.Client;
 import java.time.LocalDateTime;
 
 public record ClientResponseItemsDTO (
@@ -10,4 +11,15 @@ public record ClientResponseItemsDTO (
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ){
+
+    public static ClientResponseItemsDTO from(Client client) {
+        return new ClientResponseItemsDTO(
+                client.getId(),
+                client.getName(),
+                client.getEmail(),
+                client.getPhone(),
+                client.getCreatedAt(),
+                client.getUpdatedAt()
+        );
+    }
 }
@@ -0,0 +1,9 @@
+package dev.felipe.clientmanagement.dto.client;
+
+public record ClientSearchRow(
+        Long id,
+        String name,
+        String email,
+        String phone
+) {
+}
@@ -0,0 +1,23 @@
+package dev.felipe.clientmanagement.dto.client;
+
+public enum ClientSort {
+    CREATED_AT("createdAt"),
+    NAME("name");
+
+    private final String param;
+
+    ClientSort(String param) {
+        this.param = param;
+    }
+
+    public String param() {
+        return param;
+    }
+
+    public static ClientSort fromParam(String param) {
+        for (ClientSort sort : values()) {
+            if (sort.param.equals(param)) return sort;
+        }
+        throw new IllegalArgumentException("Ordenação inválida: " + param);
+    }
+}
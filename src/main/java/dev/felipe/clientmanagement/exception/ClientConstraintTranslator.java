@@ -0,0 +1,44 @@
+package dev.felipe.clientmanagement.exception;
+
+import dev.felipe.clientmanagement.exception.domain.EmailAlreadyExistsException;
+import dev.felipe.clientmanagement.exception.domain.PhoneAlreadyExistsException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+// Converte a violação de unicidade do banco nas exceções de domínio já usadas pela API
+public class ClientConstraintTranslator {
+
+    public static final String EMAIL_CONSTRAINT = "uk_clients_email";
+    public static final String PHONE_CONSTRAINT = "uk_clients_phone";
+
+    public static RuntimeException translate(DataIntegrityViolationException ex) {
+        String constraint = constraintName(ex);
+        String detail = ex.getMostSpecificCause().getMessage();
+
+        if (violates(constraint, detail, EMAIL_CONSTRAINT, "email")) {
+            return new EmailAlreadyExistsException("Esse email já existe em outro cliente.");
+        }
+
+        if (violates(constraint, detail, PHONE_CONSTRAINT, "phone")) {
+            return new PhoneAlreadyExistsException("Esse telefone já existe em outro cliente.");
+        }
+
+        return ex;
+    }
+
+    // Bancos criados antes das constraints terem nome usam nomes gerados pelo Hibernate;
+    // nesse caso o detalhe do Postgres ("Key (email)=...") indica a coluna
+    private static boolean violates(String constraint, String detail, String name, String column) {
+        if (name.equalsIgnoreCase(constraint)) return true;
+        return detail != null && detail.contains("(" + column + ")");
+    }
+
+    private static String constraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+}
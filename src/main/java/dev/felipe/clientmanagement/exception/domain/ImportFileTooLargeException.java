@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.exception.domain;
+
+public class ImportFileTooLargeException extends RuntimeException {
+    public ImportFileTooLargeException(String message) {
+        super(message);
+    }
+}
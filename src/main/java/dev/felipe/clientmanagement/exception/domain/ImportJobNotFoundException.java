@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.exception.domain;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.exception.domain;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
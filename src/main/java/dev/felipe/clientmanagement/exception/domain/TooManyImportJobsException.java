@@ -0,0 +1,7 @@
+package dev.felipe.clientmanagement.exception.domain;
+
+public class TooManyImportJobsException extends RuntimeException {
+    public TooManyImportJobsException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package dev.felipe.clientmanagement.model;
 
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
+import dev.felipe.clientmanagement.utils.SearchUtils;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -14,21 +16,31 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "clients", uniqueConstraints = {@UniqueConstraint(columnNames = "email"),
-        @UniqueConstraint(columnNames = "phone")})
+@Table(name = "clients", uniqueConstraints = {
+        @UniqueConstraint(name = ClientConstraintTranslator.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = ClientConstraintTranslator.PHONE_CONSTRAINT, columnNames = "phone")},
+        indexes = {@Index(name = "idx_clients_owner_created", columnList = "owner_id, created_at, id"),
+                @Index(name = "idx_clients_owner_name", columnList = "owner_id, name, id"),
+                @Index(name = "idx_clients_owner_id", columnList = "owner_id, id"),
+                @Index(name = "idx_clients_owner_name_norm", columnList = "owner_id, name_norm")})
 public class Client {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_seq")
+    @SequenceGenerator(name = "clients_seq", sequenceName = "clients_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
     @Column(nullable = false, length = 40)
     private String name;
 
-    @Column(nullable = false, unique = true)
+    // Nome em minúsculas e sem acentos, usado pela busca e mantido por normalizeSearchColumns()
+    @Column(name = "name_norm", length = 40)
+    private String nameNorm;
+
+    @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false, length = 11, unique = true)
+    @Column(nullable = false, length = 11)
     @Pattern(regexp = "^[0-9]+$")
     @NotBlank
     private String phone;
@@ -43,4 +55,13 @@ public class Client {
     @ManyToOne()
     @JoinColumn(name = "owner_id", nullable = false)
     private User owner;
-}
\ No newline at end of file
+
+    // Email e telefone já são salvos normalizados e servem direto como colunas de busca
+    @PrePersist
+    @PreUpdate
+    public void normalizeSearchColumns() {
+        this.nameNorm = SearchUtils.normalizeName(name);
+        this.email = SearchUtils.normalizeEmail(email);
+        this.phone = SearchUtils.normalizePhone(phone);
+    }
+}
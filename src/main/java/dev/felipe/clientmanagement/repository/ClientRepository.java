@@ -1,26 +1,42 @@
 package dev.felipe.clientmanagement.repository;
 
+import dev.felipe.clientmanagement.dto.client.ClientExportRange;
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
 import dev.felipe.clientmanagement.model.Client;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
 
+    // Nas buscas combinadas o termo chega normalizado (SearchUtils.normalizeName): o nome é comparado
+    // com nameNorm e o email, salvo em minúsculas, direto, sem LOWER() por linha
     @Query("""
     SELECT c
     FROM Client c
     WHERE c.owner.id = :ownerId
       AND (
             :search IS NULL
-         OR LOWER(c.name)  LIKE LOWER(CONCAT('%', :search, '%'))
-         OR LOWER(c.email) LIKE LOWER(CONCAT('%', :search, '%'))
-         OR c.phone        LIKE CONCAT('%', :search, '%')
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
       )
 """)
     Page<Client> findSearchClientByOwner_Id(
@@ -29,11 +45,353 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
             Pageable pageable
     );
 
-    @Query("SELECT c FROM Client c WHERE c.owner.id = :ownerId")
-    Stream<Client> streamAllByOwnerId(
+    // As consultas da listagem projetam direto no DTO de resposta: nada entra no
+    // contexto de persistência e o dono (ManyToOne eager) não é carregado.
+    // Slice busca pageSize + 1 linhas e dispensa a query de COUNT(*)
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+""")
+    Slice<ClientResponseItemsDTO> findSearchClientSliceByOwner_Id(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    // Consultas especializadas por formato do termo (ver ClientSearchPlanner):
+    // cada uma toca só a coluna relevante e recebe o termo já em minúsculas
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.phone LIKE CONCAT(:prefix, '%')
+""")
+    Slice<ClientResponseItemsDTO> findPhonePrefixSlice(
+            @Param("ownerId") Long ownerId,
+            @Param("prefix") String prefix,
+            Pageable pageable
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.phone LIKE CONCAT('%', :search, '%')
+""")
+    Slice<ClientResponseItemsDTO> findPhoneSearchSlice(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    // O email é salvo em minúsculas, então a coluna dispensa LOWER()
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.email LIKE CONCAT('%', :search, '%')
+""")
+    Slice<ClientResponseItemsDTO> findEmailSearchSlice(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.nameNorm LIKE CONCAT('%', :search, '%')
+""")
+    Slice<ClientResponseItemsDTO> findNameSearchSlice(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+""")
+    List<ClientResponseItemsDTO> findFirstSearchClients(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            Sort sort,
+            Limit limit
+    );
+
+    // Paginação por cursor: a comparação de tupla permite um seek por índice
+    // em vez de ler e descartar as linhas das páginas anteriores
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+      AND (c.createdAt, c.id) > (:createdAt, :id)
+    ORDER BY c.createdAt ASC, c.id ASC
+""")
+    List<ClientResponseItemsDTO> findSearchClientsAfterCreatedAt(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+      AND (c.createdAt, c.id) < (:createdAt, :id)
+    ORDER BY c.createdAt DESC, c.id DESC
+""")
+    List<ClientResponseItemsDTO> findSearchClientsBeforeCreatedAt(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Percorre idx_clients_owner_name (owner_id, name, id) a partir do cursor, sem ordenar
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+      AND (c.name, c.id) > (:name, :id)
+    ORDER BY c.name ASC, c.id ASC
+""")
+    List<ClientResponseItemsDTO> findSearchClientsAfterName(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            @Param("name") String name,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND (
+            :search IS NULL
+         OR c.nameNorm LIKE CONCAT('%', :search, '%')
+         OR c.email    LIKE CONCAT('%', :search, '%')
+         OR c.phone    LIKE CONCAT('%', :search, '%')
+      )
+      AND (c.name, c.id) < (:name, :id)
+    ORDER BY c.name DESC, c.id DESC
+""")
+    List<ClientResponseItemsDTO> findSearchClientsBeforeName(
+            @Param("ownerId") Long ownerId,
+            @Param("search") String search,
+            @Param("name") String name,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // Projeção escalar: nenhuma entidade entra no persistence context. Sem fetch size o driver
+    // do Postgres traz o resultado inteiro para a memória antes da primeira linha
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientExportRow(
+           c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+    ORDER BY c.id
+""")
+    Stream<ClientExportRow> streamExportRowsByOwnerId(
+            @Param("ownerId") Long ownerId
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientExportRange(MIN(c.id), MAX(c.id), COUNT(c))
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+""")
+    ClientExportRange findExportRangeByOwnerId(
+            @Param("ownerId") Long ownerId
+    );
+
+    // Uma faixa [fromId, toId) da exportação paralela, na mesma ordem da exportação serial. As duas
+    // percorrem idx_clients_owner_id (owner_id, id): cada faixa lê só as próprias linhas, já ordenadas
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientExportRow(
+           c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.id >= :fromId
+      AND c.id < :toId
+    ORDER BY c.id
+""")
+    Stream<ClientExportRow> streamExportRowsByOwnerIdAndIdRange(
+            @Param("ownerId") Long ownerId,
+            @Param("fromId") Long fromId,
+            @Param("toId") Long toId
+    );
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+    ORDER BY c.id
+""")
+    Stream<ClientSearchRow> streamSearchRowsByOwnerId(
             @Param("ownerId") Long ownerId
     );
 
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO(
+           c.id, c.name, c.email, c.phone, c.createdAt, c.updatedAt)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.id IN :ids
+""")
+    List<ClientResponseItemsDTO> findItemsByOwnerIdAndIdIn(
+            @Param("ownerId") Long ownerId,
+            @Param("ids") Collection<Long> ids
+    );
+
+    long countByOwner_Id(Long ownerId);
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.nameNorm IS NULL
+""")
+    List<ClientSearchRow> findRowsWithoutNameNorm(Limit limit);
+
+    // Update em lote não dispara @UpdateTimestamp: o backfill não altera updatedAt
+    @Modifying
+    @Query("UPDATE Client c SET c.nameNorm = :nameNorm WHERE c.id = :id")
+    int updateNameNorm(@Param("id") Long id, @Param("nameNorm") String nameNorm);
+
+    List<Client> findAllByOwner_IdAndIdIn(Long ownerId, Collection<Long> ids);
+
+    @Query("SELECT c.id FROM Client c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.email IN :emails
+""")
+    List<ClientSearchRow> findRowsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.phone IN :phones
+""")
+    List<ClientSearchRow> findRowsByPhoneIn(@Param("phones") Collection<String> phones);
+
+    // Valores já ocupados por clientes de outros usuários: as constraints únicas são globais
+    @Query("SELECT c.email FROM Client c WHERE c.owner.id <> :ownerId AND c.email IN :emails")
+    List<String> findForeignEmailsIn(
+            @Param("ownerId") Long ownerId,
+            @Param("emails") Collection<String> emails
+    );
+
+    @Query("SELECT c.phone FROM Client c WHERE c.owner.id <> :ownerId AND c.phone IN :phones")
+    List<String> findForeignPhonesIn(
+            @Param("ownerId") Long ownerId,
+            @Param("phones") Collection<String> phones
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.email IN :emails
+""")
+    List<ClientSearchRow> findOwnerRowsByEmailIn(
+            @Param("ownerId") Long ownerId,
+            @Param("emails") Collection<String> emails
+    );
+
+    @Query("""
+    SELECT new dev.felipe.clientmanagement.dto.client.ClientSearchRow(c.id, c.name, c.email, c.phone)
+    FROM Client c
+    WHERE c.owner.id = :ownerId
+      AND c.phone IN :phones
+""")
+    List<ClientSearchRow> findOwnerRowsByPhoneIn(
+            @Param("ownerId") Long ownerId,
+            @Param("phones") Collection<String> phones
+    );
+
+    // Os updates em lote abaixo não disparam @PreUpdate/@UpdateTimestamp:
+    // quem chama passa as colunas já normalizadas e o updatedAt
+    @Modifying
+    @Query("""
+    UPDATE Client c
+    SET c.name = :name, c.nameNorm = :nameNorm, c.email = :email, c.phone = :phone, c.updatedAt = :updatedAt
+    WHERE c.id = :id
+      AND c.owner.id = :ownerId
+""")
+    int updateByIdAndOwnerId(
+            @Param("id") Long id,
+            @Param("ownerId") Long ownerId,
+            @Param("name") String name,
+            @Param("nameNorm") String nameNorm,
+            @Param("email") String email,
+            @Param("phone") String phone,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM Client c WHERE c.id = :id AND c.owner.id = :ownerId")
+    int deleteByIdAndOwnerId(@Param("id") Long id, @Param("ownerId") Long ownerId);
+
     boolean existsClientByEmail(String email);
 
     boolean existsClientByPhone(String phone);
@@ -0,0 +1,46 @@
+package dev.felipe.clientmanagement.security;
+
+import dev.felipe.clientmanagement.exception.domain.TooManyAttemptsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@Component
+public class AuthRateLimiter {
+
+    private final SlidingWindowRateLimiter loginByIp;
+    private final SlidingWindowRateLimiter loginByEmail;
+    private final SlidingWindowRateLimiter registerByIp;
+    private final SlidingWindowRateLimiter registerByEmail;
+
+    // A contagem anterior some da janela deslizante no máximo uma janela depois: é o Retry-After
+    private final Duration retryAfter;
+
+    public AuthRateLimiter(@Value("${security.rate-limit.window:1m}") Duration window,
+                           @Value("${security.rate-limit.login-per-ip:20}") int loginPerIp,
+                           @Value("${security.rate-limit.login-per-email:5}") int loginPerEmail,
+                           @Value("${security.rate-limit.register-per-ip:5}") int registerPerIp,
+                           @Value("${security.rate-limit.register-per-email:5}") int registerPerEmail,
+                           @Value("${security.rate-limit.max-keys:100000}") long maxKeys) {
+
+        this.loginByIp = new SlidingWindowRateLimiter(loginPerIp, window, maxKeys);
+        this.loginByEmail = new SlidingWindowRateLimiter(loginPerEmail, window, maxKeys);
+        this.registerByIp = new SlidingWindowRateLimiter(registerPerIp, window, maxKeys);
+        this.registerByEmail = new SlidingWindowRateLimiter(registerPerEmail, window, maxKeys);
+        this.retryAfter = window;
+    }
+
+    public void checkLogin(String ip, String email) {
+        if (!loginByIp.tryAcquire(ip) || !loginByEmail.tryAcquire(email.toLowerCase())) {
+            throw new TooManyAttemptsException(
+                    "Muitas tentativas de login. Tente novamente mais tarde.", retryAfter);
+        }
+    }
+
+    public void checkRegister(String ip, String email) {
+        if (!registerByIp.tryAcquire(ip) || !registerByEmail.tryAcquire(email.toLowerCase())) {
+            throw new TooManyAttemptsException(
+                    "Muitas tentativas de registro. Tente novamente mais tarde.", retryAfter);
+        }
+    }
+}
@@ -1,27 +1,53 @@
 package dev.felipe.clientmanagement.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Date;
 import java.time.Instant;
+import java.util.HexFormat;
 
 @Service
 public class JwtService {
 
     private final SecretKey SECRET_KEY;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
 
-    public JwtService(@Value("${jwt.secret}") String secretKey) {
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                      MeterRegistry meterRegistry) {
 
         this.SECRET_KEY = Keys.hmacShaKeyFor(
                 Decoders.BASE64.decode(secretKey)
         );
 
+        // O parser é imutável e thread-safe, então é construído uma única vez
+        this.parser = Jwts.parser()
+                .verifyWith(SECRET_KEY)
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
     }
 
     public String generateToken(Long userId, String email, String name, TokenType type) {
@@ -69,14 +95,51 @@ public class JwtService {
             throw new JwtException("Token Null");
         }
 
+        String key = digest(token);
+
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) return cached;
+
         try {
-            return Jwts.parser()
-                    .verifyWith(SECRET_KEY)
-                    .build()
+            Claims claims = parser
                     .parseSignedClaims(token)
                     .getPayload();
+
+            verifiedTokens.put(key, claims);
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Token inválido.");
         }
     }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Cada entrada expira junto com o "exp" do token, nunca depois dele
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) return 0;
+
+            long millisLeft = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, millisLeft) * 1_000_000;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -2,7 +2,9 @@ package dev.felipe.clientmanagement.security;
 
 import dev.felipe.clientmanagement.security.filter.AccessReadTokenFilter;
 import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,9 +13,12 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -34,7 +39,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .dispatcherTypeMatchers
                                 (DispatcherType.FORWARD, DispatcherType.ASYNC).permitAll()
-                        .requestMatchers("/api/v1/auth/**").authenticated().anyRequest().permitAll()
+                        .requestMatchers("/api/v1/auth/**").authenticated()
+                        // Só o health fica aberto: as métricas expõem caches, tempos de busca e a JVM
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").authenticated()
+                        .anyRequest().permitAll()
                 ).exceptionHandling(exception -> exception
                         .authenticationEntryPoint(new CustomAuthenticationEntryPoint()))
                 .addFilterBefore(accessReadTokenFilter, UsernamePasswordAuthenticationFilter.class);
@@ -48,7 +57,20 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.pool-size:4}") int poolSize,
+            @Value("${security.password.queue-capacity:50}") int queueCapacity,
+            @Value("${security.password.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        // Hashes antigos não têm o prefixo {bcrypt} e são migrados no próximo login
+        DelegatingPasswordEncoder delegating =
+                new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, waitTimeout, meterRegistry);
     }
 }
@@ -0,0 +1,73 @@
+package dev.felipe.clientmanagement.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+
+public class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowNanos;
+    private final Ticker ticker;
+    private final Cache<String, Window> windows;
+
+    public SlidingWindowRateLimiter(int limit, Duration window, long maxKeys) {
+        this(limit, window, maxKeys, Ticker.systemTicker());
+    }
+
+    SlidingWindowRateLimiter(int limit, Duration window, long maxKeys, Ticker ticker) {
+        this.limit = limit;
+        this.windowNanos = window.toNanos();
+        this.ticker = ticker;
+
+        // Chaves ociosas por duas janelas já não influenciam a contagem e são
+        // removidas em background; o tamanho máximo limita a memória usada
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(window.multipliedBy(2))
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        return windows.get(key, k -> new Window()).tryAcquire(ticker.read());
+    }
+
+    public long size() {
+        return windows.estimatedSize();
+    }
+
+    void cleanUp() {
+        windows.cleanUp();
+    }
+
+    // Janela deslizante aproximada: a contagem da janela anterior é ponderada
+    // pela fração dela que ainda se sobrepõe ao intervalo atual
+    private class Window {
+
+        private long currentWindow;
+        private int currentCount;
+        private int previousCount;
+
+        synchronized boolean tryAcquire(long now) {
+            long window = Math.floorDiv(now, windowNanos);
+
+            if (window != currentWindow) {
+                previousCount = window == currentWindow + 1 ? currentCount : 0;
+                currentCount = 0;
+                currentWindow = window;
+            }
+
+            double previousWeight = 1.0 - (double) Math.floorMod(now, windowNanos) / windowNanos;
+            double estimated = previousCount * previousWeight + currentCount;
+
+            if (estimated >= limit) return false;
+
+            currentCount++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientBatchOperation;
+import dev.felipe.clientmanagement.dto.client.ClientBatchOperationType;
+import dev.felipe.clientmanagement.dto.client.ClientBatchResponseDTO;
+import dev.felipe.clientmanagement.dto.client.ClientBatchResult;
+import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
+import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class ClientBatchService {
+
+    private final ClientRepository clientRepository;
+    private final ClientCountService clientCountService;
+    private final ClientSearchIndex clientSearchIndex;
+    private final ClientDataVersions clientDataVersions;
+
+    public ClientBatchService(ClientRepository clientRepository, ClientCountService clientCountService,
+                              ClientSearchIndex clientSearchIndex, ClientDataVersions clientDataVersions) {
+        this.clientRepository = clientRepository;
+        this.clientCountService = clientCountService;
+        this.clientSearchIndex = clientSearchIndex;
+        this.clientDataVersions = clientDataVersions;
+    }
+
+    // As operações são validadas em memória, na ordem recebida, contra o estado carregado
+    // em poucas consultas; só as válidas vão ao banco, em lotes JDBC e numa única transação.
+    // Uma violação no flush (corrida com outra requisição) desfaz o lote inteiro.
+    @Transactional
+    public ClientBatchResponseDTO execute(List<ClientBatchOperation> operations, User user) {
+        Batch batch = new Batch(user);
+        batch.load(operations);
+
+        List<ClientBatchResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            results.add(batch.apply(i, operations.get(i)));
+        }
+
+        try {
+            batch.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw ClientConstraintTranslator.translate(e);
+        }
+
+        // Ids dos novos clientes só existem depois do INSERT
+        batch.created.forEach((index, client) -> results.set(index,
+                new ClientBatchResult(index, 201, client.getId(), "Cliente registrado com sucesso.")));
+
+        int delta = batch.created.size() - batch.deleted.size();
+        if (delta != 0) clientCountService.add(user.getId(), delta);
+        if (batch.changed()) {
+            clientSearchIndex.invalidate(user.getId());
+            clientDataVersions.bump(user.getId());
+        }
+
+        int succeeded = (int) results.stream().filter(result -> result.status() < 300).count();
+        return new ClientBatchResponseDTO(results, succeeded, results.size() - succeeded);
+    }
+
+    private class Batch {
+
+        private final User user;
+
+        private final Map<Long, Client> owned = new HashMap<>();
+        private final Set<Long> existing = new HashSet<>();
+
+        // Quem ocupa cada email/telefone; novos clientes usam o índice negativo como chave.
+        // Valores liberados por UPDATE continuam ocupados: os UPDATEs podem ser reordenados no flush
+        private final Map<String, Long> emails = new HashMap<>();
+        private final Map<String, Long> phones = new HashMap<>();
+
+        private final Map<Integer, Client> created = new LinkedHashMap<>();
+        private final List<PendingUpdate> updated = new ArrayList<>();
+        private final Map<Long, Client> deleted = new LinkedHashMap<>();
+
+        Batch(User user) {
+            this.user = user;
+        }
+
+        void load(List<ClientBatchOperation> operations) {
+            Set<Long> ids = new HashSet<>();
+            Set<String> emailValues = new HashSet<>();
+            Set<String> phoneValues = new HashSet<>();
+
+            for (ClientBatchOperation operation : operations) {
+                if (operation.id() != null) ids.add(operation.id());
+                if (operation.client() != null) {
+                    emailValues.add(SearchUtils.normalizeEmail(operation.client().email()));
+                    phoneValues.add(SearchUtils.normalizePhone(operation.client().phone()));
+                }
+            }
+
+            if (!ids.isEmpty()) {
+                for (Client client : clientRepository.findAllByOwner_IdAndIdIn(user.getId(), ids)) {
+                    owned.put(client.getId(), client);
+                    emails.put(client.getEmail(), client.getId());
+                    phones.put(client.getPhone(), client.getId());
+                }
+                if (owned.size() < ids.size()) existing.addAll(clientRepository.findExistingIds(ids));
+            }
+
+            if (!emailValues.isEmpty()) {
+                for (ClientSearchRow row : clientRepository.findRowsByEmailIn(emailValues)) {
+                    emails.put(row.email(), row.id());
+                }
+            }
+
+            if (!phoneValues.isEmpty()) {
+                for (ClientSearchRow row : clientRepository.findRowsByPhoneIn(phoneValues)) {
+                    phones.put(row.phone(), row.id());
+                }
+            }
+        }
+
+        ClientBatchResult apply(int index, ClientBatchOperation operation) {
+            ClientBatchOperationType type = operation.type();
+
+            if (type != ClientBatchOperationType.CREATE && operation.id() == null) {
+                return new ClientBatchResult(index, 400, null, "O id do cliente é obrigatório.");
+            }
+
+            if (type != ClientBatchOperationType.DELETE && operation.client() == null) {
+                return new ClientBatchResult(index, 400, operation.id(), "Os dados do cliente são obrigatórios.");
+            }
+
+            return switch (type) {
+                case CREATE -> create(index, operation.client());
+                case UPDATE -> update(index, operation.id(), operation.client());
+                case DELETE -> delete(index, operation.id());
+            };
+        }
+
+        private ClientBatchResult create(int index, ClientDTO dto) {
+            String email = SearchUtils.normalizeEmail(dto.email());
+            String phone = SearchUtils.normalizePhone(dto.phone());
+            Long key = (long) -(index + 1);
+
+            ClientBatchResult conflict = conflict(index, null, key, email, phone);
+            if (conflict != null) return conflict;
+
+            Client client = new Client();
+            client.setName(dto.name());
+            client.setEmail(email);
+            client.setPhone(phone);
+            client.setOwner(user);
+
+            emails.put(email, key);
+            phones.put(phone, key);
+            created.put(index, client);
+
+            return new ClientBatchResult(index, 201, null, "Cliente registrado com sucesso.");
+        }
+
+        private ClientBatchResult update(int index, Long id, ClientDTO dto) {
+            Client client = owned.get(id);
+            if (client == null || deleted.containsKey(id)) return missingOrNotOwned(index, id);
+
+            String email = SearchUtils.normalizeEmail(dto.email());
+            String phone = SearchUtils.normalizePhone(dto.phone());
+
+            ClientBatchResult conflict = conflict(index, id, id, email, phone);
+            if (conflict != null) return conflict;
+
+            emails.put(email, id);
+            phones.put(phone, id);
+            updated.add(new PendingUpdate(client, dto.name(), email, phone));
+
+            return new ClientBatchResult(index, 200, id, "Cliente editado com sucesso.");
+        }
+
+        private ClientBatchResult delete(int index, Long id) {
+            Client client = owned.get(id);
+            if (client == null || deleted.containsKey(id)) return missingOrNotOwned(index, id);
+
+            // Os DELETEs vão ao banco antes de tudo, então os valores ficam livres para o resto do lote
+            emails.values().removeIf(id::equals);
+            phones.values().removeIf(id::equals);
+            updated.removeIf(pending -> pending.client() == client);
+            deleted.put(id, client);
+
+            return new ClientBatchResult(index, 200, id, "Cliente deletado com sucesso.");
+        }
+
+        private ClientBatchResult conflict(int index, Long id, Long self, String email, String phone) {
+            Long emailHolder = emails.get(email);
+            if (emailHolder != null && !emailHolder.equals(self)) {
+                return new ClientBatchResult(index, 409, id, "Esse email já existe em outro cliente.");
+            }
+
+            Long phoneHolder = phones.get(phone);
+            if (phoneHolder != null && !phoneHolder.equals(self)) {
+                return new ClientBatchResult(index, 409, id, "Esse telefone já existe em outro cliente.");
+            }
+
+            return null;
+        }
+
+        private ClientBatchResult missingOrNotOwned(int index, Long id) {
+            if (deleted.containsKey(id) || !existing.contains(id)) {
+                return new ClientBatchResult(index, 404, id, "Esse cliente não existe.");
+            }
+            // Mesmo código que o GlobalExceptionHandler dá a UserIsNotOwnerClientException na rota individual
+            return new ClientBatchResult(index, 401, id, "Esse usuário não tem permissões para esse cliente.");
+        }
+
+        // O Hibernate executa INSERTs e UPDATEs antes dos DELETEs num mesmo flush:
+        // os DELETEs vão num flush próprio e as alterações só são aplicadas depois dele
+        void flush() {
+            if (!deleted.isEmpty()) {
+                clientRepository.deleteAll(deleted.values());
+                clientRepository.flush();
+            }
+
+            for (PendingUpdate pending : updated) {
+                pending.client().setName(pending.name());
+                pending.client().setEmail(pending.email());
+                pending.client().setPhone(pending.phone());
+            }
+
+            if (!created.isEmpty()) clientRepository.saveAll(created.values());
+            clientRepository.flush();
+        }
+
+        boolean changed() {
+            return !created.isEmpty() || !updated.isEmpty() || !deleted.isEmpty();
+        }
+    }
+
+    private record PendingUpdate(Client client, String name, String email, String phone) {
+    }
+}
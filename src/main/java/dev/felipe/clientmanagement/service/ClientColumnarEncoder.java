@@ -0,0 +1,165 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+// Formato colunar binário, em blocos de até BLOCK_ROWS linhas; só o bloco atual fica em memória.
+//   arquivo: "CLCOL", versão 1, varint com o número de colunas e os nomes (texto), os blocos e um bloco vazio no fim
+//   bloco:   varint com o número de linhas e as colunas Nome, Email, Telefone, Criado em e Atualizado em, nessa ordem
+//   texto:   varint com o tamanho em bytes + 1 (0 = null) e os bytes UTF-8
+//   telefone: varint h; 0 = null, h ímpar = h >> 1 dígitos seguidos do varint do número (zeros à esquerda
+//            voltam pela quantidade de dígitos), h par = texto com (h >> 1) - 1 bytes UTF-8
+//   data:    varint com a diferença em dias para a data anterior da coluna no bloco, em zigzag, + 1 (0 = null)
+// Varint como no protobuf: 7 bits por byte, os menos significativos primeiro
+public final class ClientColumnarEncoder extends ClientExportEncoder {
+
+    static final int BLOCK_ROWS = 4096;
+
+    private static final byte[] MAGIC = "CLCOL".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+
+    private final ClientExportRow[] block = new ClientExportRow[BLOCK_ROWS];
+    private int rows;
+
+    public ClientColumnarEncoder(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ClientColumnarEncoder(OutputStream outputStream, int bufferSize) {
+        super(outputStream, bufferSize);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writeBytes(MAGIC);
+        writeVarint(VERSION);
+        writeVarint(ClientImportService.COLUMNS.size());
+        for (String column : ClientImportService.COLUMNS) {
+            writeText(column);
+        }
+    }
+
+    @Override
+    public void write(ClientExportRow client) throws IOException {
+        block[rows++] = client;
+        if (rows == BLOCK_ROWS) writeBlock();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) writeBlock();
+        writeVarint(0);
+        flush();
+    }
+
+    private void writeBlock() throws IOException {
+        writeVarint(rows);
+        writeTextColumn(ClientExportRow::name);
+        writeTextColumn(ClientExportRow::email);
+        writePhoneColumn();
+        writeDateColumn(ClientExportRow::createdAt);
+        writeDateColumn(ClientExportRow::updatedAt);
+
+        Arrays.fill(block, 0, rows, null);
+        rows = 0;
+    }
+
+    private void writeTextColumn(Function<ClientExportRow, String> column) throws IOException {
+        for (int i = 0; i < rows; i++) {
+            writeText(column.apply(block[i]));
+        }
+    }
+
+    // O telefone é validado como só dígitos: 11 dígitos cabem em 6 bytes em vez de 12
+    private void writePhoneColumn() throws IOException {
+        for (int i = 0; i < rows; i++) {
+            String phone = block[i].phone();
+
+            if (phone == null) {
+                writeVarint(0);
+            } else if (isShortNumber(phone)) {
+                writeVarint((long) phone.length() << 1 | 1);
+                writeVarint(Long.parseLong(phone));
+            } else {
+                writeVarint(utf8Length(phone) + 1L << 1);
+                writeUtf8(phone);
+            }
+        }
+    }
+
+    private void writeDateColumn(Function<ClientExportRow, LocalDateTime> column) throws IOException {
+        long previous = 0;
+
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime value = column.apply(block[i]);
+            if (value == null) {
+                writeVarint(0);
+                continue;
+            }
+
+            long day = value.toLocalDate().toEpochDay();
+            long delta = day - previous;
+            writeVarint(((delta << 1) ^ (delta >> 63)) + 1);
+            previous = day;
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            writeVarint(0);
+            return;
+        }
+        writeVarint(utf8Length(value) + 1L);
+        writeUtf8(value);
+    }
+
+    private void writeVarint(long value) throws IOException {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    // Até 18 dígitos o número cabe num long
+    private static boolean isShortNumber(String value) {
+        int length = value.length();
+        if (length == 0 || length > 18) return false;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    // Mesma contagem de writeUtf8, inclusive o '?' dos substitutos sem par
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,49 @@
+package dev.felipe.clientmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ClientCountService {
+
+    private final ClientRepository clientRepository;
+    private final boolean counterMode;
+    private final Cache<Long, AtomicLong> totals;
+
+    public ClientCountService(ClientRepository clientRepository,
+                              @Value("${client.listing.count-mode:counter}") String countMode,
+                              @Value("${client.listing.counter.max-size:10000}") long maxSize,
+                              @Value("${client.listing.counter.ttl:10m}") Duration ttl) {
+        this.clientRepository = clientRepository;
+        this.counterMode = "counter".equalsIgnoreCase(countMode);
+
+        // O TTL limita por quanto tempo um desvio do contador pode durar
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isCounterMode() {
+        return counterMode;
+    }
+
+    public long total(Long ownerId) {
+        return totals.get(ownerId, id -> new AtomicLong(clientRepository.countByOwner_Id(id))).get();
+    }
+
+    // Só ajusta contadores já carregados; os demais são lidos do banco na próxima consulta
+    public void add(Long ownerId, long delta) {
+        AtomicLong total = totals.getIfPresent(ownerId);
+        if (total != null) total.addAndGet(delta);
+    }
+
+    public void invalidate(Long ownerId) {
+        totals.invalidate(ownerId);
+    }
+}
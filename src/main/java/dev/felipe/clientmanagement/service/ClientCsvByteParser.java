@@ -0,0 +1,358 @@
+package dev.felipe.clientmanagement.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Parser do CSV de importação direto sobre os bytes UTF-8, sem Reader nem CSVRecord: só os
+// campos usados viram String. Arquivos grandes são cortados em segmentos em fronteiras de
+// registro (quebra de linha fora de aspas), lidos em paralelo, e as linhas saem na ordem do arquivo
+@Component
+public class ClientCsvByteParser implements AutoCloseable {
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final boolean enabled;
+    private final long largeFileThreshold;
+    private final int segmentSize;
+    private final ForkJoinPool pool;
+
+    public ClientCsvByteParser(@Value("${client.import.fast-parser.enabled:false}") boolean enabled,
+                               @Value("${client.import.fast-parser.parallelism:0}") int parallelism,
+                               @Value("${client.import.fast-parser.segment-size:4MB}") DataSize segmentSize,
+                               @Value("${client.import.fast-parser.large-file-threshold:8MB}")
+                               DataSize largeFileThreshold) {
+        this.enabled = enabled;
+        this.largeFileThreshold = largeFileThreshold.toBytes();
+        this.segmentSize = Math.clamp(segmentSize.toBytes(), 1, Integer.MAX_VALUE);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // Arquivos em disco a partir do limite usam sempre o parser de bytes sobre o mapeamento,
+    // mesmo com o parser desligado; tamanho negativo significa desconhecido
+    public boolean isEnabledFor(long size) {
+        return enabled || (size >= 0 && size >= largeFileThreshold);
+    }
+
+    // Lê a partir da posição 0 até o limit do buffer; devolve false se "cancelled" interromper a leitura.
+    // Segmentos são parseados no máximo duas vezes o paralelismo à frente do consumidor
+    public boolean parse(ByteBuffer data, BooleanSupplier cancelled, Consumer<ClientImportRow> consumer) {
+        Header header = readHeader(data);
+        ClientImportService.checkHeader(header.names());
+
+        int[] columns = ClientImportService.COLUMNS.stream().mapToInt(header.names()::indexOf).toArray();
+        List<Segment> segments = split(data, header.end(), header.lines() + 1);
+
+        Deque<ForkJoinTask<List<ClientImportRow>>> pending = new ArrayDeque<>();
+        int window = pool.getParallelism() * 2;
+        int next = 0;
+
+        try {
+            while (next < segments.size() || !pending.isEmpty()) {
+                while (next < segments.size() && pending.size() < window) {
+                    Segment segment = segments.get(next++);
+                    pending.add(pool.submit(() -> parseSegment(data, segment, header.names().size(), columns)));
+                }
+
+                for (ClientImportRow row : pending.removeFirst().join()) {
+                    if (cancelled.getAsBoolean()) return false;
+                    consumer.accept(row);
+                }
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+        return true;
+    }
+
+    // yyyy-MM-dd sem DateTimeFormatter; LocalDate.of recusa datas inexistentes (ex.: 2025-02-30)
+    public static LocalDate parseDate(String value) {
+        if (value == null || value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            throw new DateTimeException("Data inválida: " + value);
+        }
+        return LocalDate.of(digits(value, 0, 4), digits(value, 5, 7), digits(value, 8, 10));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') throw new DateTimeException("Data inválida: " + value);
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static Header readHeader(ByteBuffer data) {
+        int end = data.limit();
+        int pos = 0;
+
+        // BOM do Excel
+        if (end >= 3 && data.get(0) == (byte) 0xEF && data.get(1) == (byte) 0xBB && data.get(2) == (byte) 0xBF) {
+            pos = 3;
+        }
+
+        long lines = 0;
+        int skipped;
+        while ((skipped = emptyLine(data, pos, end)) > 0) {
+            pos += skipped;
+            lines++;
+        }
+
+        if (pos >= end) return new Header(List.of(), pos, lines);
+
+        RecordReader reader = new RecordReader(data);
+        pos = reader.read(pos, end);
+
+        List<String> names = new ArrayList<>(reader.fields);
+        for (int i = 0; i < reader.fields; i++) names.add(reader.field(i));
+
+        return new Header(names, pos, lines + reader.newlines + 1);
+    }
+
+    // Duas fases em paralelo: (1) aspas e quebras de linha de cada pedaço de "segmentSize" bytes,
+    // que dão a paridade das aspas e o número da linha no início de cada pedaço; (2) cada pedaço
+    // avança até a primeira quebra de linha fora de aspas, que é onde um registro termina
+    private List<Segment> split(ByteBuffer data, int start, long firstLine) {
+        int end = data.limit();
+        int count = (int) Math.max(1, Math.ceilDiv((long) end - start, segmentSize));
+        if (count == 1) return List.of(new Segment(start, end, firstLine));
+
+        long[][] stats = pool.submit(() -> IntStream.range(0, count).parallel()
+                .mapToObj(i -> count(data, pieceStart(start, i), pieceStart(start, i + 1), end))
+                .toArray(long[][]::new)).join();
+
+        boolean[] quoted = new boolean[count];
+        long[] lines = new long[count];
+        long quotes = 0;
+        long line = firstLine;
+        for (int i = 0; i < count; i++) {
+            quoted[i] = (quotes & 1) == 1;
+            lines[i] = line;
+            quotes += stats[i][0];
+            line += stats[i][1];
+        }
+
+        long[][] boundaries = pool.submit(() -> IntStream.range(1, count).parallel()
+                .mapToObj(i -> boundary(data, pieceStart(start, i), end, quoted[i], lines[i]))
+                .toArray(long[][]::new)).join();
+
+        List<Segment> segments = new ArrayList<>(count);
+        int from = start;
+        line = firstLine;
+        for (long[] boundary : boundaries) {
+            int to = (int) boundary[0];
+            if (to > from) segments.add(new Segment(from, to, line));
+            from = Math.max(from, to);
+            line = Math.max(line, boundary[1]);
+        }
+        if (end > from) segments.add(new Segment(from, end, line));
+
+        return segments;
+    }
+
+    private int pieceStart(int start, int piece) {
+        return (int) Math.min(Integer.MAX_VALUE, start + (long) piece * segmentSize);
+    }
+
+    private static long[] count(ByteBuffer data, int from, int to, int end) {
+        long quotes = 0;
+        long newlines = 0;
+        for (int pos = from; pos < Math.min(to, end); pos++) {
+            byte b = data.get(pos);
+            if (b == QUOTE) quotes++;
+            else if (b == LF) newlines++;
+        }
+        return new long[]{quotes, newlines};
+    }
+
+    // Devolve a posição logo depois da quebra de linha e o número da linha que começa ali
+    private static long[] boundary(ByteBuffer data, int from, int end, boolean quoted, long line) {
+        for (int pos = from; pos < end; pos++) {
+            byte b = data.get(pos);
+            if (b == QUOTE) {
+                quoted = !quoted;
+            } else if (b == LF) {
+                line++;
+                if (!quoted) return new long[]{pos + 1, line};
+            }
+        }
+        return new long[]{end, line};
+    }
+
+    // O número da linha é o da linha física onde o registro termina, como no commons-csv
+    private static List<ClientImportRow> parseSegment(ByteBuffer data, Segment segment, int width, int[] columns) {
+        RecordReader reader = new RecordReader(data);
+        List<ClientImportRow> rows = new ArrayList<>();
+        long line = segment.firstLine();
+        int pos = segment.start();
+
+        while (pos < segment.end()) {
+            int skipped = emptyLine(data, pos, segment.end());
+            if (skipped > 0) {
+                pos += skipped;
+                line++;
+                continue;
+            }
+
+            pos = reader.read(pos, segment.end());
+            line += reader.newlines;
+
+            rows.add(reader.fields == width
+                    ? new ClientImportRow(line, true, reader.field(columns[0]), reader.field(columns[1]),
+                            reader.field(columns[2]), reader.field(columns[3]), reader.field(columns[4]))
+                    : new ClientImportRow(line, false, null, null, null, null, null));
+            line++;
+        }
+
+        return rows;
+    }
+
+    private static int emptyLine(ByteBuffer data, int pos, int end) {
+        if (pos >= end) return 0;
+        if (data.get(pos) == LF) return 1;
+        if (data.get(pos) == CR && pos + 1 < end && data.get(pos + 1) == LF) return 2;
+        return 0;
+    }
+
+    private record Header(List<String> names, int end, long lines) {
+    }
+
+    private record Segment(int start, int end, long firstLine) {
+    }
+
+    // Guarda só onde cada campo começa e termina; a String é criada quando o campo é pedido
+    private static final class RecordReader {
+
+        private final ByteBuffer data;
+        private int[] starts = new int[8];
+        private int[] ends = new int[8];
+        private boolean[] escaped = new boolean[8];
+        private byte[] scratch = new byte[256];
+        private int fields;
+        private int newlines;
+
+        RecordReader(ByteBuffer data) {
+            this.data = data;
+        }
+
+        // Lê um registro a partir de "pos" e devolve a posição depois da quebra de linha que o termina
+        int read(int pos, int end) {
+            fields = 0;
+            newlines = 0;
+
+            while (true) {
+                while (pos < end && isBlank(data.get(pos))) pos++;
+
+                int start;
+                int stop;
+                boolean hasEscape = false;
+
+                if (pos < end && data.get(pos) == QUOTE) {
+                    start = ++pos;
+                    while (true) {
+                        if (pos >= end) {
+                            stop = pos;
+                            break;
+                        }
+                        byte b = data.get(pos);
+                        if (b == QUOTE) {
+                            if (pos + 1 < end && data.get(pos + 1) == QUOTE) {
+                                hasEscape = true;
+                                pos += 2;
+                                continue;
+                            }
+                            stop = pos++;
+                            break;
+                        }
+                        if (b == LF) newlines++;
+                        pos++;
+                    }
+
+                    // Ignora o que houver entre a aspa de fechamento e o separador
+                    while (pos < end && data.get(pos) != COMMA && data.get(pos) != LF) pos++;
+                } else {
+                    start = pos;
+                    while (pos < end && data.get(pos) != COMMA && data.get(pos) != LF) pos++;
+                    stop = pos;
+                }
+
+                add(start, stop, hasEscape);
+
+                if (pos < end && data.get(pos) == COMMA) {
+                    pos++;
+                    continue;
+                }
+                return pos < end ? pos + 1 : pos;
+            }
+        }
+
+        String field(int index) {
+            int start = starts[index];
+            int length = ends[index] - start;
+
+            if (!escaped[index] && data.hasArray()) {
+                return new String(data.array(), data.arrayOffset() + start, length, StandardCharsets.UTF_8);
+            }
+
+            if (scratch.length < length) scratch = new byte[Math.max(length, scratch.length * 2)];
+
+            if (!escaped[index]) {
+                data.get(start, scratch, 0, length);
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            int size = 0;
+            for (int pos = start; pos < start + length; pos++) {
+                byte b = data.get(pos);
+                scratch[size++] = b;
+                // "" dentro de aspas vira "
+                if (b == QUOTE) pos++;
+            }
+            return new String(scratch, 0, size, StandardCharsets.UTF_8);
+        }
+
+        // Mesmo trim do commons-csv: espaços e controles nas pontas, inclusive o \r do CRLF
+        private void add(int start, int stop, boolean hasEscape) {
+            while (start < stop && isBlank(data.get(start))) start++;
+            while (stop > start && isBlank(data.get(stop - 1))) stop--;
+
+            if (fields == starts.length) {
+                starts = Arrays.copyOf(starts, fields * 2);
+                ends = Arrays.copyOf(ends, fields * 2);
+                escaped = Arrays.copyOf(escaped, fields * 2);
+            }
+
+            starts[fields] = start;
+            ends[fields] = stop;
+            escaped[fields] = hasEscape;
+            fields++;
+        }
+
+        private static boolean isBlank(byte b) {
+            return (b & 0xFF) <= ' ';
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+// Codificador do CSV de exportação (Nome,Email,Telefone,Criado em,Atualizado em) direto para bytes
+// UTF-8 num buffer reaproveitado, sem Writer, varargs nem LocalDate por linha. A saída é a mesma do
+// CSVPrinter com CSVFormat.DEFAULT: aspas só quando o commons-csv as poria, separador \r\n
+public final class ClientCsvEncoder extends ClientExportEncoder {
+
+    private static final byte[] HEADER =
+            (String.join(",", ClientImportService.COLUMNS) + "\r\n").getBytes(StandardCharsets.UTF_8);
+
+    public ClientCsvEncoder(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ClientCsvEncoder(OutputStream outputStream, int bufferSize) {
+        super(outputStream, bufferSize);
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        writeBytes(HEADER);
+    }
+
+    @Override
+    public void write(ClientExportRow client) throws IOException {
+        writeField(client.name(), true);
+        writeByte(',');
+        writeField(client.email(), false);
+        writeByte(',');
+        writeField(client.phone(), false);
+        writeByte(',');
+        if (client.createdAt() != null) writeDate(client.createdAt());
+        writeByte(',');
+        if (client.updatedAt() != null) writeDate(client.updatedAt());
+        writeByte('\r');
+        writeByte('\n');
+    }
+
+    // Mesmas regras do QuoteMode.MINIMAL do commons-csv; null sai vazio e sem aspas
+    private void writeField(String value, boolean first) throws IOException {
+        if (value == null) return;
+
+        if (!needsQuotes(value, first)) {
+            writeUtf8(value);
+            return;
+        }
+
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                i = writeNonAscii(value, i);
+                continue;
+            }
+            if (c == '"') writeByte('"');
+            writeByte(c);
+            i++;
+        }
+        writeByte('"');
+    }
+
+    private static boolean needsQuotes(String value, boolean first) {
+        int length = value.length();
+
+        // Vazio no início da linha: sem aspas a linha ficaria em branco
+        if (length == 0) return first;
+
+        // Começo em espaço, controle, '!', '"' ou '#', ou fim em espaço ou controle
+        if (value.charAt(0) <= '#' || value.charAt(length - 1) <= ' ') return true;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return true;
+        }
+        return false;
+    }
+}
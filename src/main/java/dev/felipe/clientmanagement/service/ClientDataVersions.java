@@ -0,0 +1,45 @@
+package dev.felipe.clientmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Versão dos clientes de cada usuário, trocada a cada escrita. Os números vêm de uma sequência e
+// nunca se repetem: um usuário que sai do cache volta com uma versão nova, o que só custa uma
+// exportação refeita
+@Service
+public class ClientDataVersions {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<Long, Long> versions;
+
+    public ClientDataVersions(@Value("${client.export.cache.max-owners:10000}") long maxOwners) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxOwners)
+                .build();
+    }
+
+    public long current(Long ownerId) {
+        return versions.get(ownerId, id -> sequence.incrementAndGet());
+    }
+
+    // Dentro de uma transação a troca fica para depois do commit: antes disso uma exportação ainda
+    // leria os dados antigos e os guardaria sob a versão nova
+    public void bump(Long ownerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.invalidate(ownerId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.invalidate(ownerId);
+            }
+        });
+    }
+}
@@ -0,0 +1,228 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Exportações guardadas em disco por usuário, formato e versão dos dados (ClientDataVersions).
+// A primeira exportação de uma versão vai ao mesmo tempo para o cliente e para o arquivo; as
+// seguintes saem do arquivo. O diretório é desta instância, tem tamanho máximo e perde primeiro
+// o arquivo usado há mais tempo
+@Service
+public class ClientExportCache {
+
+    private static final String PREFIX = "client-export-";
+
+    private final ClientFilesService clientFilesService;
+    private final ClientDataVersions clientDataVersions;
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxSize;
+
+    // As versões recomeçam a cada início: a instância entra na ETag para não validar um download antigo
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+
+    // Nome do arquivo -> tamanho, do usado há mais tempo para o mais recente
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    public ClientExportCache(ClientFilesService clientFilesService,
+                             ClientDataVersions clientDataVersions,
+                             @Value("${client.export.cache.enabled:true}") boolean enabled,
+                             @Value("${client.export.cache.dir:${java.io.tmpdir}/client-export-cache}") Path directory,
+                             @Value("${client.export.cache.max-size:1GB}") DataSize maxSize) throws IOException {
+        this.clientFilesService = clientFilesService;
+        this.clientDataVersions = clientDataVersions;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxSize = maxSize.toBytes();
+
+        if (enabled) {
+            Files.createDirectories(directory);
+            // Sobras de uma execução anterior: nada no mapa aponta para elas
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().startsWith(PREFIX)).forEach(this::delete);
+            }
+        }
+    }
+
+    public record Key(Long ownerId, ClientExportFormat format, long version, String etag) {
+
+        String fileName() {
+            return stalePrefix() + version;
+        }
+
+        String stalePrefix() {
+            return PREFIX + ownerId + "-" + format.param() + "-";
+        }
+    }
+
+    // O arquivo já aberto: quem recebe lê dele e fecha ao terminar
+    public record Artifact(FileChannel channel, long size) implements Closeable {
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Key key(User user, ClientExportFormat format) {
+        long version = clientDataVersions.current(user.getId());
+        String etag = "\"" + instance + "-" + user.getId() + "-" + version + "-" + format.param() + "\"";
+        return new Key(user.getId(), format, version, etag);
+    }
+
+    // Abre o arquivo sob o mesmo lock de store(): um store() concorrente pode apagá-lo logo depois,
+    // mas o download continua lendo do descritor aberto aqui
+    public synchronized Artifact find(Key key) throws IOException {
+        String name = key.fileName();
+        Long size = entries.get(name);
+        if (size == null) return null;
+
+        try {
+            return new Artifact(FileChannel.open(directory.resolve(name), StandardOpenOption.READ), size);
+        } catch (NoSuchFileException e) {
+            entries.remove(name);
+            totalSize -= size;
+            return null;
+        }
+    }
+
+    // Gera a exportação para o cliente e, no mesmo fluxo, para um arquivo temporário que só entra no
+    // cache se a exportação terminar. Um erro no disco não interrompe o download, só deixa de guardar
+    public void export(User user, Key key, OutputStream outputStream) throws IOException {
+        Path temp = Files.createTempFile(directory, PREFIX, ".tmp");
+        boolean stored = false;
+
+        try (TeeOutputStream tee = new TeeOutputStream(outputStream, Files.newOutputStream(temp))) {
+            clientFilesService.export(user, key.format(), tee);
+            if (tee.closeCopy()) {
+                stored = store(key, temp);
+            }
+        } finally {
+            if (!stored) delete(temp);
+        }
+    }
+
+    private synchronized boolean store(Key key, Path temp) throws IOException {
+        long size = Files.size(temp);
+        if (size > maxSize) return false;
+
+        String name = key.fileName();
+        Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Long previous = entries.put(name, size);
+        totalSize += size - (previous != null ? previous : 0);
+
+        // Versões anteriores do mesmo usuário e formato não serão mais pedidas
+        String stalePrefix = key.stalePrefix();
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            boolean stale = !entry.getKey().equals(name) && entry.getKey().startsWith(stalePrefix);
+
+            if (stale || totalSize > maxSize && !entry.getKey().equals(name)) {
+                iterator.remove();
+                totalSize -= entry.getValue();
+                delete(directory.resolve(entry.getKey()));
+            }
+        }
+        return true;
+    }
+
+    // Um download em andamento do arquivo apagado continua lendo do descritor aberto em find()
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    // Escreve no cliente e numa cópia; a cópia é descartada no primeiro erro. Fechar não fecha o cliente
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream client;
+        private OutputStream copy;
+
+        private TeeOutputStream(OutputStream client, OutputStream copy) {
+            this.client = client;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            client.write(b);
+            if (copy == null) return;
+            try {
+                copy.write(b);
+            } catch (IOException e) {
+                discardCopy();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            client.write(b, off, len);
+            if (copy == null) return;
+            try {
+                copy.write(b, off, len);
+            } catch (IOException e) {
+                discardCopy();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            client.flush();
+        }
+
+        // true se a cópia recebeu tudo
+        boolean closeCopy() {
+            if (copy == null) return false;
+            try {
+                copy.close();
+                copy = null;
+                return true;
+            } catch (IOException e) {
+                copy = null;
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            discardCopy();
+        }
+
+        private void discardCopy() {
+            if (copy == null) return;
+            try {
+                copy.close();
+            } catch (IOException ignored) {
+                // A cópia já foi descartada
+            }
+            copy = null;
+        }
+    }
+}
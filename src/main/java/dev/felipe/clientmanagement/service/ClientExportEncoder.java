@@ -0,0 +1,138 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+// Base dos codificadores da exportação: bytes UTF-8 num buffer reaproveitado, que vai para a saída
+// quando enche. Linhas escritas sem cabeçalho formam um trecho que pode ser concatenado a outros
+public abstract class ClientExportEncoder implements Flushable {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    // Maior escrita garantida por ensure: uma data, 10 bytes
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    private final OutputStream outputStream;
+    protected final byte[] buffer;
+    protected int position;
+
+    protected ClientExportEncoder(OutputStream outputStream, int bufferSize) {
+        this.outputStream = outputStream;
+        this.buffer = new byte[Math.max(bufferSize, MIN_BUFFER_SIZE)];
+    }
+
+    // O CSV compactado usa o codificador do CSV; a compactação fica com quem escreve na saída
+    public static ClientExportEncoder of(ClientExportFormat format, OutputStream outputStream) {
+        return switch (format) {
+            case CSV, CSV_GZIP -> new ClientCsvEncoder(outputStream);
+            case NDJSON -> new ClientNdjsonEncoder(outputStream);
+            case COLUMNAR -> new ClientColumnarEncoder(outputStream);
+        };
+    }
+
+    public abstract void writeHeader() throws IOException;
+
+    public abstract void write(ClientExportRow client) throws IOException;
+
+    // Fim da exportação: o que o formato ainda segura em memória, e depois flush
+    public void finish() throws IOException {
+        flush();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+        outputStream.flush();
+    }
+
+    protected final void writeBytes(byte[] bytes) throws IOException {
+        for (byte b : bytes) {
+            ensure(1);
+            buffer[position++] = b;
+        }
+    }
+
+    protected final void writeByte(char c) throws IOException {
+        ensure(1);
+        buffer[position++] = (byte) c;
+    }
+
+    // Um caractere fora do ASCII a partir de "index"; devolve o índice seguinte. Substitutos sem par
+    // viram '?', como no OutputStreamWriter
+    protected final int writeNonAscii(String value, int index) throws IOException {
+        ensure(4);
+        char c = value.charAt(index);
+
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | c >> 6);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+            buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+            return index + 2;
+        } else if (Character.isSurrogate(c)) {
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | c >> 12);
+            buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        }
+        return index + 1;
+    }
+
+    protected final void writeUtf8(String value) throws IOException {
+        int length = value.length();
+
+        for (int i = 0; i < length; ) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeByte(c);
+                i++;
+            } else {
+                i = writeNonAscii(value, i);
+            }
+        }
+    }
+
+    // yyyy-MM-dd, como LocalDate.toString; anos fora de 0..9999 usam o próprio toString
+    protected final void writeDate(LocalDateTime value) throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            writeUtf8(value.toLocalDate().toString());
+            return;
+        }
+
+        ensure(10);
+        writeDigits(year, 4);
+        buffer[position++] = '-';
+        writeDigits(value.getMonthValue(), 2);
+        buffer[position++] = '-';
+        writeDigits(value.getDayOfMonth(), 2);
+    }
+
+    protected final void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) drain();
+    }
+
+    private void writeDigits(int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void drain() throws IOException {
+        if (position == 0) return;
+        outputStream.write(buffer, 0, position);
+        position = 0;
+    }
+}
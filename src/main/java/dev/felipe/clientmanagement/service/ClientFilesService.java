@@ -1,114 +1,196 @@
 package dev.felipe.clientmanagement.service;
 
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.dto.client.ClientExportRange;
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.ClientRepository;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVPrinter;
-import org.apache.commons.csv.CSVRecord;
-import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import dev.felipe.clientmanagement.model.Client;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.io.*;
-import java.nio.charset.StandardCharsets;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.*;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 @Service
-public class ClientFilesService {
+public class ClientFilesService implements AutoCloseable {
 
     private final ClientRepository clientRepository;
-
-    public ClientFilesService(ClientRepository clientRepository) {
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean parallelEnabled;
+    private final long parallelMinRows;
+    private final long partitionRows;
+    private final int concurrency;
+    private final int gzipLevel;
+    private final ExecutorService executor;
+
+    public ClientFilesService(ClientRepository clientRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${client.export.parallel.enabled:false}") boolean parallelEnabled,
+                              @Value("${client.export.parallel.min-rows:200000}") long parallelMinRows,
+                              @Value("${client.export.parallel.partition-rows:50000}") long partitionRows,
+                              @Value("${client.export.parallel.concurrency:4}") int concurrency,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                              @Value("${client.export.gzip-level:6}") int gzipLevel) {
         this.clientRepository = clientRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelEnabled = parallelEnabled;
+        this.parallelMinRows = parallelMinRows;
+        this.partitionRows = Math.max(1, partitionRows);
+        this.gzipLevel = gzipLevel;
+
+        // Cada faixa em andamento segura uma conexão: no máximo metade do pool, somando todas as exportações
+        this.concurrency = Math.max(1, Math.min(concurrency, connectionPoolSize / 2));
+        this.executor = Executors.newFixedThreadPool(this.concurrency,
+                Thread.ofVirtual().name("client-export-", 1).factory());
     }
 
-    @Transactional(readOnly = true)
     public void generateCSV(User user, OutputStream outputStream) throws IOException {
+        export(user, ClientExportFormat.CSV, outputStream);
+    }
 
-        BufferedWriter writer =
-                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
-
-        CSVFormat format = CSVFormat.DEFAULT.builder().build();
+    // Linhas projetadas e lidas em lotes do cursor, escritas à medida que chegam: o heap não depende
+    // do número de clientes em nenhum formato, e o gzip comprime no mesmo fluxo
+    public void export(User user, ClientExportFormat format, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzip = format == ClientExportFormat.CSV_GZIP ? gzip(outputStream) : null;
+        OutputStream target = gzip != null ? gzip : outputStream;
 
-        try (Stream<Client> clients = clientRepository.streamAllByOwnerId(user.getId());
-             CSVPrinter printer = new CSVPrinter(writer, format)
-        ) {
-            printer.printRecord("Nome", "Email", "Telefone", "Criado em", "Atualizado em");
+        write(user, format, target);
 
-            clients.forEach(client -> {
-                try {
-                    printer.printRecord(
-                            client.getName(),
-                            client.getEmail(),
-                            client.getPhone(),
-                            client.getCreatedAt().toLocalDate(),
-                            client.getUpdatedAt().toLocalDate()
-                    );
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-            });
-            printer.flush();
+        if (gzip != null) {
+            gzip.finish();
+            outputStream.flush();
         }
     }
 
-    @Transactional
-    public void importCSV(MultipartFile file, User user) throws IOException {
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private GZIPOutputStream gzip(OutputStream outputStream) throws IOException {
+        return new GZIPOutputStream(outputStream, ClientExportEncoder.DEFAULT_BUFFER_SIZE) {
+            {
+                def.setLevel(gzipLevel);
+            }
+        };
+    }
+
+    private void write(User user, ClientExportFormat format, OutputStream outputStream) throws IOException {
 
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("Arquivo vazio");
+        // O colunar agrupa as linhas em blocos, que não se dividem entre faixas
+        if (parallelEnabled && format != ClientExportFormat.COLUMNAR) {
+            ClientExportRange range = clientRepository.findExportRangeByOwnerId(user.getId());
+
+            if (range.count() > 0 && range.count() >= parallelMinRows) {
+                writeParallel(user.getId(), range, format, outputStream);
+                return;
+            }
         }
 
-        List<Client> clients = new ArrayList<>();
-        // Suporta apenas datas no padrão americano
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        ClientExportEncoder encoder = ClientExportEncoder.of(format, outputStream);
+        encoder.writeHeader();
 
-        CSVFormat format = CSVFormat.DEFAULT.builder()
-                .setHeader()
-                .setSkipHeaderRecord(true)
-                .setIgnoreEmptyLines(true)
-                .setTrim(true)
-                .build();
+        inReadOnlyTransaction(() -> {
+            try (Stream<ClientExportRow> clients = clientRepository.streamExportRowsByOwnerId(user.getId())) {
+                print(encoder, clients);
+            }
+        });
+        encoder.finish();
+    }
 
-        try (Reader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8));
-             CSVParser parser = new CSVParser(reader, format)) {
+    // Faixas de id consultadas e codificadas em paralelo, cada uma na sua transação, e escritas na
+    // ordem das faixas: os bytes são os mesmos da exportação serial. No máximo duas vezes a
+    // concorrência de faixas fica em memória à frente da escrita
+    private void writeParallel(Long ownerId, ClientExportRange range, ClientExportFormat format,
+                               OutputStream outputStream) throws IOException {
 
-            for (CSVRecord record : parser) {
-                Client client = new Client();
+        long partitions = Math.max(1, Math.ceilDiv(range.count(), partitionRows));
+        long width = Math.max(1, Math.ceilDiv(range.maxId() - range.minId() + 1, partitions));
 
-                client.setOwner(user);
-                client.setName(record.get("Nome"));
-                client.setEmail(record.get("Email").toLowerCase());
-                client.setPhone(record.get("Telefone"));
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        int window = concurrency * 2;
+        long next = range.minId();
 
-                LocalDate createdDate = LocalDate.parse(record.get("Criado em"), dateFormatter);
-                LocalDateTime createdDateTime = createdDate.atStartOfDay();
-                client.setCreatedAt(createdDateTime);
+        ClientExportEncoder header = ClientExportEncoder.of(format, outputStream);
+        header.writeHeader();
+        header.flush();
 
-                LocalDate updatedDate = LocalDate.parse(record.get("Atualizado em"), dateFormatter);
-                LocalDateTime updatedDateTime = updatedDate.atStartOfDay();
-                client.setUpdatedAt(updatedDateTime);
+        try {
+            while (next <= range.maxId() || !pending.isEmpty()) {
+                while (next <= range.maxId() && pending.size() < window) {
+                    long fromId = next;
+                    long toId = Math.min(range.maxId(), fromId + width - 1) + 1;
+                    pending.add(executor.submit(() -> encodePartition(ownerId, format, fromId, toId)));
+                    next = toId;
+                }
 
-                clients.add(client);
+                outputStream.write(await(pending.removeFirst()));
             }
+            outputStream.flush();
+        } finally {
+            pending.forEach(partition -> partition.cancel(true));
         }
+    }
 
+    private byte[] encodePartition(Long ownerId, ClientExportFormat format, long fromId, long toId)
+            throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ClientExportEncoder encoder = ClientExportEncoder.of(format, buffer);
+
+        inReadOnlyTransaction(() -> {
+            try (Stream<ClientExportRow> clients =
+                         clientRepository.streamExportRowsByOwnerIdAndIdRange(ownerId, fromId, toId)) {
+                print(encoder, clients);
+            }
+        });
+        encoder.finish();
+        return buffer.toByteArray();
+    }
+
+    private void inReadOnlyTransaction(IOAction action) throws IOException {
         try {
-            clientRepository.saveAll(clients);
-            clientRepository.flush();
-        } catch (ConstraintViolationException e) {
-            throw new ConstraintViolationException(
-                    "Campos únicos duplicados: " + e.getConstraintName(),
-                    e.getSQLException(),
-                    e.getConstraintName());
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    action.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
+
+    private static byte[] await(Future<byte[]> partition) throws IOException {
+        try {
+            return partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Exportação interrompida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void print(ClientExportEncoder encoder, Stream<ClientExportRow> clients) throws IOException {
+        Iterator<ClientExportRow> iterator = clients.iterator();
+
+        while (iterator.hasNext()) {
+            encoder.write(iterator.next());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
+    }
 }
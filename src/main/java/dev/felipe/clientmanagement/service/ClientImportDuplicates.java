@@ -0,0 +1,138 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+
+// Emails e telefones já vistos numa importação. Os do usuário vêm do banco uma única vez:
+// em mapas exatos (valor -> id do cliente) ou, para donos muito grandes, em filtros de Bloom,
+// cujos positivos precisam ser confirmados no banco. Emails viram hashes de 64 bits e
+// telefones viram números, então nada fica como String
+final class ClientImportDuplicates {
+
+    enum Kind {
+        NEW,
+        EXISTING,
+        MAYBE,
+        REJECTED
+    }
+
+    record Verdict(Kind kind, long clientId, String message) {
+
+        static final Verdict NEW = new Verdict(Kind.NEW, 0, null);
+        static final Verdict MAYBE = new Verdict(Kind.MAYBE, 0, null);
+
+        static Verdict rejected(String message) {
+            return new Verdict(Kind.REJECTED, 0, message);
+        }
+    }
+
+    private final LongLongMap emailOwners;
+    private final LongLongMap phoneOwners;
+    private final BloomFilter emailFilter;
+    private final BloomFilter phoneFilter;
+
+    private final LongLongMap fileEmails = new LongLongMap(1024);
+    private final LongLongMap filePhones = new LongLongMap(1024);
+    private final LongLongMap claimed = new LongLongMap(64);
+
+    private ClientImportDuplicates(LongLongMap emailOwners, LongLongMap phoneOwners,
+                                   BloomFilter emailFilter, BloomFilter phoneFilter) {
+        this.emailOwners = emailOwners;
+        this.phoneOwners = phoneOwners;
+        this.emailFilter = emailFilter;
+        this.phoneFilter = phoneFilter;
+    }
+
+    static ClientImportDuplicates exact(int expected) {
+        return new ClientImportDuplicates(new LongLongMap(expected), new LongLongMap(expected), null, null);
+    }
+
+    static ClientImportDuplicates bloom(long expected, double falsePositiveRate) {
+        return new ClientImportDuplicates(null, null,
+                new BloomFilter(expected, falsePositiveRate), new BloomFilter(expected, falsePositiveRate));
+    }
+
+    boolean isExact() {
+        return emailOwners != null;
+    }
+
+    void addExisting(ClientSearchRow row) {
+        long email = emailKey(row.email());
+        long phone = phoneKey(row.phone());
+
+        if (isExact()) {
+            emailOwners.put(email, row.id());
+            if (phone != 0) phoneOwners.put(phone, row.id());
+        } else {
+            emailFilter.add(email);
+            if (phone != 0) phoneFilter.add(phone);
+        }
+    }
+
+    // Espera email e telefone já normalizados e validados
+    Verdict check(long line, String email, String phone) {
+        long emailKey = emailKey(email);
+        long phoneKey = phoneKey(phone);
+
+        long previous = fileEmails.putIfAbsent(emailKey, line);
+        if (previous != LongLongMap.MISSING) {
+            return Verdict.rejected("Email repetido no arquivo (linha " + previous + ").");
+        }
+
+        previous = filePhones.putIfAbsent(phoneKey, line);
+        if (previous != LongLongMap.MISSING) {
+            return Verdict.rejected("Telefone repetido no arquivo (linha " + previous + ").");
+        }
+
+        if (!isExact()) {
+            return emailFilter.mightContain(emailKey) || phoneFilter.mightContain(phoneKey)
+                    ? Verdict.MAYBE
+                    : Verdict.NEW;
+        }
+
+        return resolve(emailOwners.get(emailKey), phoneOwners.get(phoneKey));
+    }
+
+    // Recebe os ids dos clientes donos do email e do telefone (ou MISSING)
+    Verdict resolve(long emailOwner, long phoneOwner) {
+        boolean emailTaken = emailOwner != LongLongMap.MISSING;
+        boolean phoneTaken = phoneOwner != LongLongMap.MISSING;
+
+        if (!emailTaken && !phoneTaken) return Verdict.NEW;
+
+        if (emailTaken && phoneTaken && emailOwner != phoneOwner) {
+            return Verdict.rejected("Email e telefone pertencem a clientes diferentes.");
+        }
+
+        return emailTaken
+                ? new Verdict(Kind.EXISTING, emailOwner, "Esse email já existe em outro cliente.")
+                : new Verdict(Kind.EXISTING, phoneOwner, "Esse telefone já existe em outro cliente.");
+    }
+
+    // Cada cliente existente pode ser sobrescrito por uma única linha; devolve a linha anterior
+    long claim(long clientId, long line) {
+        return claimed.putIfAbsent(clientId, line);
+    }
+
+    // FNV-1a de 64 bits; colisão entre emails distintos é desprezível no tamanho de uma importação
+    static long emailKey(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            hash ^= email.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    // O tamanho entra na chave para "0119..." e "119..." não colidirem; 0 indica telefone inválido
+    static long phoneKey(String phone) {
+        if (phone == null || phone.isEmpty() || phone.length() > 11) return 0;
+
+        long value = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c < '0' || c > '9') return 0;
+            value = value * 10 + (c - '0');
+        }
+        return ((long) phone.length() << 40) | value;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientImportJobDTO;
+import dev.felipe.clientmanagement.dto.client.ClientImportResult;
+import java.util.UUID;
+
+public class ClientImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long ownerId;
+    private final ClientImportProgress progress;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    public ClientImportJob(Long ownerId, int maxErrors) {
+        this.ownerId = ownerId;
+        this.progress = new ClientImportProgress(maxErrors);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Long ownerId() {
+        return ownerId;
+    }
+
+    public ClientImportProgress progress() {
+        return progress;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    void start() {
+        startedAt = System.nanoTime();
+        status = Status.RUNNING;
+    }
+
+    void finish(Status status, String message) {
+        finishedAt = System.nanoTime();
+        this.message = message;
+        this.status = status;
+    }
+
+    public ClientImportJobDTO toDTO() {
+        ClientImportResult result = progress.toResult();
+
+        double rowsPerSecond = 0;
+        if (startedAt != 0) {
+            long end = finishedAt != 0 ? finishedAt : System.nanoTime();
+            double seconds = (end - startedAt) / 1_000_000_000.0;
+            if (seconds > 0) rowsPerSecond = result.rowsRead() / seconds;
+        }
+
+        return new ClientImportJobDTO(id, status.name(), result.rowsRead(), result.imported(), result.updated(),
+                result.unchanged(), result.rejected(), rowsPerSecond, result.errors(), result.errorsTruncated(),
+                message);
+    }
+}
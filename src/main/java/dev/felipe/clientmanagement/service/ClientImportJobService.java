@@ -0,0 +1,214 @@
+package dev.felipe.clientmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.felipe.clientmanagement.dto.client.ClientImportJobDTO;
+import dev.felipe.clientmanagement.dto.client.ClientImportPolicy;
+import dev.felipe.clientmanagement.exception.domain.ImportJobNotFoundException;
+import dev.felipe.clientmanagement.exception.domain.TooManyImportJobsException;
+import dev.felipe.clientmanagement.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class ClientImportJobService implements AutoCloseable {
+
+    private final ClientImportService clientImportService;
+    private final ClientImportSpooler spooler;
+    private final ThreadPoolExecutor executor;
+    private final int maxPerUser;
+    private final int maxErrors;
+    private final Duration progressInterval;
+
+    // Jobs na fila ou em execução não expiram; terminados ficam consultáveis até a retenção expirar
+    private final Cache<String, ClientImportJob> jobs;
+    private final Map<Long, Integer> activeJobs = new ConcurrentHashMap<>();
+
+    public ClientImportJobService(ClientImportService clientImportService, ClientImportSpooler spooler,
+                                  @Value("${client.import.jobs.pool-size:2}") int poolSize,
+                                  @Value("${client.import.jobs.queue-capacity:20}") int queueCapacity,
+                                  @Value("${client.import.jobs.max-per-user:2}") int maxPerUser,
+                                  @Value("${client.import.jobs.retention:1h}") Duration retention,
+                                  @Value("${client.import.jobs.progress-interval:500ms}") Duration progressInterval,
+                                  @Value("${client.import.max-reported-errors:100}") int maxErrors) {
+        this.clientImportService = clientImportService;
+        this.spooler = spooler;
+        this.maxPerUser = maxPerUser;
+        this.maxErrors = maxErrors;
+        this.progressInterval = progressInterval;
+
+        // Threads virtuais, mas em número fixo: o limite é de conexões e CPU, não de threads
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("client-import-", 1).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(new RetainFinished(retention))
+                .build();
+    }
+
+    // O upload é copiado para um arquivo temporário antes de responder, porque o
+    // MultipartFile deixa de existir quando a requisição termina
+    public ClientImportJobDTO submit(MultipartFile file, User user, ClientImportPolicy policy) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo vazio");
+        }
+
+        acquireSlot(user.getId());
+
+        Path spooled = null;
+        try {
+            spooled = spooler.spool(file);
+
+            ClientImportJob job = new ClientImportJob(user.getId(), maxErrors);
+            Path input = spooled;
+
+            executor.execute(() -> run(job, input, user, policy));
+            jobs.put(job.id(), job);
+
+            return job.toDTO();
+        } catch (RejectedExecutionException e) {
+            cleanUp(spooled, user.getId());
+            throw new TooManyImportJobsException("Fila de importações cheia. Tente novamente em instantes.");
+        } catch (IOException | RuntimeException e) {
+            cleanUp(spooled, user.getId());
+            throw e;
+        }
+    }
+
+    public ClientImportJobDTO status(String jobId, User user) {
+        return find(jobId, user).toDTO();
+    }
+
+    public ClientImportJobDTO cancel(String jobId, User user) {
+        ClientImportJob job = find(jobId, user);
+        job.progress().cancel();
+        return job.toDTO();
+    }
+
+    // Envia o progresso a cada intervalo até o job terminar; cada assinante usa uma thread virtual
+    public SseEmitter subscribe(String jobId, User user) {
+        ClientImportJob job = find(jobId, user);
+        SseEmitter emitter = new SseEmitter(0L);
+
+        Thread.ofVirtual().name("client-import-events").start(() -> {
+            try {
+                while (true) {
+                    ClientImportJobDTO snapshot = job.toDTO();
+                    emitter.send(SseEmitter.event().name("progress").data(snapshot));
+
+                    if (job.status().isFinished()) break;
+                    Thread.sleep(progressInterval);
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectou: nada a fazer, o job continua
+                emitter.completeWithError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        });
+
+        return emitter;
+    }
+
+    @Override
+    public void close() {
+        jobs.asMap().values().forEach(job -> job.progress().cancel());
+        executor.shutdown();
+    }
+
+    // A vaga do usuário é liberada antes de o job aparecer como terminado
+    private void run(ClientImportJob job, Path input, User user, ClientImportPolicy policy) {
+        ClientImportJob.Status status = ClientImportJob.Status.CANCELLED;
+        String message = null;
+
+        try {
+            if (!job.progress().isCancelled()) {
+                job.start();
+                clientImportService.importCSV(ClientImportSource.of(input), user, policy, job.progress());
+                if (!job.progress().isCancelled()) status = ClientImportJob.Status.COMPLETED;
+            }
+        } catch (Exception e) {
+            status = ClientImportJob.Status.FAILED;
+            message = e.getMessage();
+        } finally {
+            cleanUp(input, user.getId());
+        }
+
+        job.finish(status, message);
+
+        // Regrava a entrada para a retenção começar a contar agora. Se o submit ainda não a
+        // gravou, o put dele já encontra o job terminado
+        jobs.asMap().replace(job.id(), job);
+    }
+
+    private ClientImportJob find(String jobId, User user) {
+        ClientImportJob job = jobs.getIfPresent(jobId);
+
+        // Job de outro usuário responde como inexistente
+        if (job == null || !job.ownerId().equals(user.getId())) {
+            throw new ImportJobNotFoundException("Essa importação não existe.");
+        }
+        return job;
+    }
+
+    private void acquireSlot(Long userId) {
+        AtomicBoolean acquired = new AtomicBoolean();
+
+        activeJobs.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxPerUser) return count;
+
+            acquired.set(true);
+            return current + 1;
+        });
+
+        if (!acquired.get()) {
+            throw new TooManyImportJobsException("Limite de importações simultâneas atingido.");
+        }
+    }
+
+    private void cleanUp(Path spooled, Long userId) {
+        activeJobs.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        spooler.delete(spooled);
+    }
+
+    private static class RetainFinished implements Expiry<String, ClientImportJob> {
+
+        private final long retentionNanos;
+
+        RetainFinished(Duration retention) {
+            this.retentionNanos = retention.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String id, ClientImportJob job, long currentTime) {
+            return job.status().isFinished() ? retentionNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, ClientImportJob job, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, ClientImportJob job, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientImportError;
+import dev.felipe.clientmanagement.dto.client.ClientImportResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Contadores de uma importação; a lista de erros tem tamanho máximo para a
+// memória não crescer com o arquivo
+public class ClientImportProgress {
+
+    private final int maxErrors;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ClientImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private volatile boolean cancelled;
+
+    public ClientImportProgress(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void imported(long rows) {
+        imported.addAndGet(rows);
+    }
+
+    public void updated(long rows) {
+        updated.addAndGet(rows);
+    }
+
+    public void unchanged(long rows) {
+        unchanged.addAndGet(rows);
+    }
+
+    public synchronized void rejected(long line, String message) {
+        rejected.incrementAndGet();
+
+        if (errors.size() < maxErrors) {
+            errors.add(new ClientImportError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Cancelamento cooperativo: a importação para antes do próximo bloco
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long rowsRead() {
+        return rowsRead.get();
+    }
+
+    public long imported() {
+        return imported.get();
+    }
+
+    public long updated() {
+        return updated.get();
+    }
+
+    public long unchanged() {
+        return unchanged.get();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    public synchronized ClientImportResult toResult() {
+        return new ClientImportResult(rowsRead.get(), imported.get(), updated.get(), unchanged.get(),
+                rejected.get(), List.copyOf(errors), errorsTruncated);
+    }
+}
@@ -0,0 +1,13 @@
+package dev.felipe.clientmanagement.service;
+
+// Linha do CSV ainda sem validação; "consistent" é false quando o número de colunas não bate
+public record ClientImportRow(
+        long line,
+        boolean consistent,
+        String name,
+        String email,
+        String phone,
+        String createdAt,
+        String updatedAt
+) {
+}
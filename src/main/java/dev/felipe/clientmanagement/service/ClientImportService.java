@@ -0,0 +1,470 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientImportPolicy;
+import dev.felipe.clientmanagement.dto.client.ClientImportResult;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
+import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import dev.felipe.clientmanagement.service.ClientImportDuplicates.Kind;
+import dev.felipe.clientmanagement.service.ClientImportDuplicates.Verdict;
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class ClientImportService {
+
+    static final List<String> COLUMNS = List.of("Nome", "Email", "Telefone", "Criado em", "Atualizado em");
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private final ClientRepository clientRepository;
+    private final ClientCountService clientCountService;
+    private final ClientSearchIndex clientSearchIndex;
+    private final ClientDataVersions clientDataVersions;
+    private final Validator validator;
+    private final ClientCsvByteParser csvByteParser;
+    private final ClientImportSpooler spooler;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long exactLimit;
+    private final double bloomFalsePositiveRate;
+
+    public ClientImportService(ClientRepository clientRepository, ClientCountService clientCountService,
+                               ClientSearchIndex clientSearchIndex, ClientDataVersions clientDataVersions,
+                               Validator validator, ClientCsvByteParser csvByteParser, ClientImportSpooler spooler,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${client.import.chunk-size:1000}") int chunkSize,
+                               @Value("${client.import.max-reported-errors:100}") int maxErrors,
+                               @Value("${client.import.preflight.exact-limit:1000000}") long exactLimit,
+                               @Value("${client.import.preflight.bloom-fpp:0.01}") double bloomFalsePositiveRate) {
+        this.clientRepository = clientRepository;
+        this.clientCountService = clientCountService;
+        this.clientSearchIndex = clientSearchIndex;
+        this.clientDataVersions = clientDataVersions;
+        this.validator = validator;
+        this.csvByteParser = csvByteParser;
+        this.spooler = spooler;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.exactLimit = exactLimit;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+    }
+
+    // O upload vai para o disco antes da leitura: o heap não cresce com o tamanho do arquivo
+    public ClientImportResult importCSV(MultipartFile file, User user, ClientImportPolicy policy) throws IOException {
+        Path spooled = spooler.spool(file);
+
+        try {
+            ClientImportProgress progress = new ClientImportProgress(maxErrors);
+            importCSV(ClientImportSource.of(spooled), user, policy, progress);
+            return progress.toResult();
+        } finally {
+            spooler.delete(spooled);
+        }
+    }
+
+    // Duas passadas em streaming sobre o arquivo. A primeira valida as linhas e procura
+    // duplicados (no arquivo, entre os clientes do usuário e, como as constraints únicas são
+    // globais, entre os clientes dos outros usuários) sem gravar nada; a segunda grava
+    // as linhas aceitas em blocos de "chunkSize", cada um na sua própria transação
+    public void importCSV(ClientImportSource source, User user, ClientImportPolicy policy,
+                          ClientImportProgress progress) throws IOException {
+        try {
+            Preflight preflight = preflight(source, user, policy, progress);
+            if (preflight == null) return;
+
+            // "fail": qualquer duplicado cancela a gravação; os conflitos já estão no relatório
+            if (policy == ClientImportPolicy.FAIL && preflight.duplicatesFound) return;
+
+            persistRows(source, user, preflight, progress);
+        } finally {
+            // Importações grandes: mais barato reconstruir o índice na próxima busca
+            if (progress.imported() + progress.updated() > 0) {
+                clientSearchIndex.invalidate(user.getId());
+                clientDataVersions.bump(user.getId());
+            }
+        }
+    }
+
+    private Preflight preflight(ClientImportSource source, User user, ClientImportPolicy policy,
+                                ClientImportProgress progress) throws IOException {
+        ClientImportDuplicates duplicates = loadExisting(user.getId());
+        Preflight preflight = new Preflight(policy, duplicates, progress);
+        List<Candidate> candidates = new ArrayList<>();
+
+        boolean completed = readRows(source, progress, (ordinal, row) -> {
+            progress.rowRead();
+
+            String error = validate(row);
+            if (error != null) {
+                preflight.reject(ordinal, row.line(), error, false);
+                return;
+            }
+
+            String email = SearchUtils.normalizeEmail(row.email());
+            String phone = SearchUtils.normalizePhone(row.phone());
+            Verdict verdict = duplicates.check(row.line(), email, phone);
+
+            if (verdict.kind() == Kind.REJECTED) {
+                preflight.apply(ordinal, row.line(), verdict);
+                return;
+            }
+
+            candidates.add(new Candidate(ordinal, row.line(), email, phone, verdict));
+            if (candidates.size() == chunkSize) confirm(candidates, user, preflight);
+        });
+
+        if (!completed) return null;
+
+        if (!candidates.isEmpty()) confirm(candidates, user, preflight);
+        return preflight;
+    }
+
+    // Carrega emails e telefones do usuário uma única vez, em streaming
+    private ClientImportDuplicates loadExisting(Long ownerId) {
+        long existing = clientRepository.countByOwner_Id(ownerId);
+
+        ClientImportDuplicates duplicates = existing <= exactLimit
+                ? ClientImportDuplicates.exact((int) existing)
+                : ClientImportDuplicates.bloom(existing, bloomFalsePositiveRate);
+
+        if (existing > 0) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ClientSearchRow> rows = clientRepository.streamSearchRowsByOwnerId(ownerId)) {
+                    rows.forEach(duplicates::addExisting);
+                }
+            });
+        }
+
+        return duplicates;
+    }
+
+    // Confirma um lote de linhas no banco: valores ocupados por clientes de outros usuários
+    // rejeitam a linha (o INSERT derrubaria o bloco inteiro), e os positivos do filtro de Bloom
+    // são resolvidos contra os clientes do usuário. Duas a quatro consultas por lote
+    private void confirm(List<Candidate> candidates, User user, Preflight preflight) {
+        Set<String> emails = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        Set<String> maybeEmails = new HashSet<>();
+        Set<String> maybePhones = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            emails.add(candidate.email());
+            phones.add(candidate.phone());
+            if (candidate.verdict().kind() == Kind.MAYBE) {
+                maybeEmails.add(candidate.email());
+                maybePhones.add(candidate.phone());
+            }
+        }
+
+        Set<String> foreignEmails = new HashSet<>(clientRepository.findForeignEmailsIn(user.getId(), emails));
+        Set<String> foreignPhones = new HashSet<>(clientRepository.findForeignPhonesIn(user.getId(), phones));
+
+        Map<String, Long> emailOwners = new HashMap<>();
+        Map<String, Long> phoneOwners = new HashMap<>();
+        if (!maybeEmails.isEmpty()) {
+            clientRepository.findOwnerRowsByEmailIn(user.getId(), maybeEmails)
+                    .forEach(row -> emailOwners.put(row.email(), row.id()));
+            clientRepository.findOwnerRowsByPhoneIn(user.getId(), maybePhones)
+                    .forEach(row -> phoneOwners.put(row.phone(), row.id()));
+        }
+
+        for (Candidate candidate : candidates) {
+            if (foreignEmails.contains(candidate.email())) {
+                preflight.reject(candidate.ordinal(), candidate.line(),
+                        "Esse email já existe em outro cliente.", true);
+                continue;
+            }
+            if (foreignPhones.contains(candidate.phone())) {
+                preflight.reject(candidate.ordinal(), candidate.line(),
+                        "Esse telefone já existe em outro cliente.", true);
+                continue;
+            }
+
+            Verdict verdict = candidate.verdict();
+            if (verdict.kind() == Kind.MAYBE) {
+                Long emailOwner = emailOwners.get(candidate.email());
+                Long phoneOwner = phoneOwners.get(candidate.phone());
+
+                verdict = preflight.duplicates().resolve(
+                        emailOwner != null ? emailOwner : LongLongMap.MISSING,
+                        phoneOwner != null ? phoneOwner : LongLongMap.MISSING);
+            }
+
+            preflight.apply(candidate.ordinal(), candidate.line(), verdict);
+        }
+
+        candidates.clear();
+    }
+
+    private void persistRows(ClientImportSource source, User user, Preflight preflight,
+                             ClientImportProgress progress) throws IOException {
+        Chunk chunk = new Chunk();
+
+        boolean completed = readRows(source, progress, (ordinal, row) -> {
+            if (preflight.isRejected(ordinal)) return;
+
+            chunk.add(row.line(), toClient(row, user), preflight.mergeTarget(ordinal));
+            if (chunk.size() == chunkSize) persist(chunk, user, progress);
+        });
+
+        // Cancelada no meio: blocos já gravados continuam gravados, o bloco em montagem é descartado
+        if (completed && chunk.size() > 0) persist(chunk, user, progress);
+    }
+
+    // Devolve false quando a importação foi cancelada antes do fim do arquivo. As duas passadas
+    // identificam cada registro pela posição dele no arquivo: o número da linha só vai para as
+    // mensagens, porque o commons-csv repete o do penúltimo registro no último sem \n final
+    private boolean readRows(ClientImportSource source, ClientImportProgress progress,
+                             RowHandler handler) throws IOException {
+        int[] ordinal = {0};
+
+        if (csvByteParser.isEnabledFor(source.size())) {
+            return csvByteParser.parse(source.read(), progress::isCancelled,
+                    row -> handler.accept(ordinal[0]++, row));
+        }
+
+        try (InputStream input = source.open();
+             Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             CSVParser parser = FORMAT.parse(reader)) {
+
+            checkHeader(parser.getHeaderNames());
+
+            for (CSVRecord record : parser) {
+                if (progress.isCancelled()) return false;
+
+                handler.accept(ordinal[0]++, toRow(record, parser.getCurrentLineNumber()));
+            }
+        }
+        return true;
+    }
+
+    static void checkHeader(List<String> header) {
+        List<String> missing = COLUMNS.stream().filter(column -> !header.contains(column)).toList();
+
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes: " + String.join(", ", missing));
+        }
+    }
+
+    private static ClientImportRow toRow(CSVRecord record, long line) {
+        if (!record.isConsistent()) {
+            return new ClientImportRow(line, false, null, null, null, null, null);
+        }
+
+        return new ClientImportRow(line, true, record.get("Nome"), record.get("Email"), record.get("Telefone"),
+                record.get("Criado em"), record.get("Atualizado em"));
+    }
+
+    private String validate(ClientImportRow row) {
+        if (!row.consistent()) {
+            return "Quantidade de colunas diferente do cabeçalho.";
+        }
+
+        Set<ConstraintViolation<ClientDTO>> violations =
+                validator.validate(new ClientDTO(row.name(), row.email(), row.phone()));
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; "));
+        }
+
+        try {
+            // Suporta apenas datas no padrão americano
+            ClientCsvByteParser.parseDate(row.createdAt());
+            ClientCsvByteParser.parseDate(row.updatedAt());
+        } catch (DateTimeException e) {
+            return "Data inválida, use o formato yyyy-MM-dd.";
+        }
+
+        return null;
+    }
+
+    private static Client toClient(ClientImportRow row, User user) {
+        Client client = new Client();
+
+        client.setOwner(user);
+        client.setName(row.name());
+        client.setEmail(SearchUtils.normalizeEmail(row.email()));
+        client.setPhone(row.phone());
+        client.setCreatedAt(ClientCsvByteParser.parseDate(row.createdAt()).atStartOfDay());
+        client.setUpdatedAt(ClientCsvByteParser.parseDate(row.updatedAt()).atStartOfDay());
+
+        return client;
+    }
+
+    // Cada bloco tem a própria transação e o persistence context dela é descartado no
+    // commit, então as entidades do bloco anterior não se acumulam na sessão.
+    // Se o banco recusar o bloco, todas as linhas dele são reportadas com o motivo
+    private void persist(Chunk chunk, User user, ClientImportProgress progress) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (!chunk.merges.isEmpty()) merge(chunk, user);
+                if (!chunk.inserts.isEmpty()) clientRepository.saveAll(chunk.inserts);
+
+                clientRepository.flush();
+            });
+
+            progress.imported(chunk.inserts.size());
+            progress.updated(chunk.updated);
+            progress.unchanged(chunk.unchanged);
+            if (!chunk.inserts.isEmpty()) clientCountService.add(user.getId(), chunk.inserts.size());
+        } catch (DataIntegrityViolationException e) {
+            String message = "Bloco rejeitado: " + ClientConstraintTranslator.translate(e).getMessage();
+            chunk.lines.forEach(line -> progress.rejected(line, message));
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    // Upsert: os clientes do bloco vêm numa única consulta e só os que mudaram ficam sujos,
+    // então o flush manda um UPDATE em lote apenas para eles e os demais mantêm o updatedAt.
+    // Cliente apagado depois da primeira passada volta a ser inserido
+    private void merge(Chunk chunk, User user) {
+        Map<Long, Client> pending = new HashMap<>(chunk.merges);
+
+        for (Client existing : clientRepository.findAllByOwner_IdAndIdIn(user.getId(), chunk.merges.keySet())) {
+            Client values = pending.remove(existing.getId());
+
+            if (Objects.equals(existing.getName(), values.getName())
+                    && Objects.equals(existing.getEmail(), values.getEmail())
+                    && Objects.equals(existing.getPhone(), values.getPhone())) {
+                chunk.unchanged++;
+                continue;
+            }
+
+            existing.setName(values.getName());
+            existing.setEmail(values.getEmail());
+            existing.setPhone(values.getPhone());
+            chunk.updated++;
+        }
+
+        chunk.inserts.addAll(pending.values());
+    }
+
+    // Linha válida e sem repetição no arquivo, esperando a confirmação no banco
+    private record Candidate(int ordinal, long line, String email, String phone, Verdict verdict) {
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void accept(int ordinal, ClientImportRow row);
+    }
+
+    // Resultado da primeira passada, indexado pela posição do registro: 1 bit por registro
+    // rejeitado e o cliente alvo de cada registro do upsert
+    private static class Preflight {
+
+        private final ClientImportPolicy policy;
+        private final ClientImportDuplicates duplicates;
+        private final ClientImportProgress progress;
+        private final BitSet rejected = new BitSet();
+        private final LongLongMap merges = new LongLongMap(64);
+        private boolean duplicatesFound;
+
+        Preflight(ClientImportPolicy policy, ClientImportDuplicates duplicates, ClientImportProgress progress) {
+            this.policy = policy;
+            this.duplicates = duplicates;
+            this.progress = progress;
+        }
+
+        ClientImportDuplicates duplicates() {
+            return duplicates;
+        }
+
+        void apply(int ordinal, long line, Verdict verdict) {
+            switch (verdict.kind()) {
+                case NEW, MAYBE -> {
+                }
+                case REJECTED -> reject(ordinal, line, verdict.message(), true);
+                case EXISTING -> {
+                    if (policy != ClientImportPolicy.UPSERT) {
+                        reject(ordinal, line, verdict.message(), true);
+                        return;
+                    }
+
+                    long previous = duplicates.claim(verdict.clientId(), line);
+                    if (previous != LongLongMap.MISSING) {
+                        reject(ordinal, line, "Cliente já atualizado pela linha " + previous + ".", true);
+                    } else {
+                        merges.put(ordinal, verdict.clientId());
+                    }
+                }
+            }
+        }
+
+        void reject(int ordinal, long line, String message, boolean duplicate) {
+            rejected.set(ordinal);
+            progress.rejected(line, message);
+            if (duplicate) duplicatesFound = true;
+        }
+
+        boolean isRejected(int ordinal) {
+            return rejected.get(ordinal);
+        }
+
+        long mergeTarget(int ordinal) {
+            return merges.get(ordinal);
+        }
+    }
+
+    private static class Chunk {
+
+        private final List<Client> inserts = new ArrayList<>();
+        private final Map<Long, Client> merges = new LinkedHashMap<>();
+        private final List<Long> lines = new ArrayList<>();
+        private long updated;
+        private long unchanged;
+
+        void add(long line, Client client, long mergeTarget) {
+            if (mergeTarget == LongLongMap.MISSING) {
+                inserts.add(client);
+            } else {
+                merges.put(mergeTarget, client);
+            }
+            lines.add(line);
+        }
+
+        int size() {
+            return lines.size();
+        }
+
+        void clear() {
+            inserts.clear();
+            merges.clear();
+            lines.clear();
+            updated = 0;
+            unchanged = 0;
+        }
+    }
+}
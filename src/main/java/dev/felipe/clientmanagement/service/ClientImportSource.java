@@ -0,0 +1,50 @@
+package dev.felipe.clientmanagement.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// A importação lê o arquivo mais de uma vez (checagem prévia e gravação)
+@FunctionalInterface
+public interface ClientImportSource {
+
+    InputStream open() throws IOException;
+
+    // Tamanho em bytes, ou -1 quando não se sabe sem ler
+    default long size() throws IOException {
+        return -1;
+    }
+
+    // Conteúdo inteiro para o parser de bytes; fontes que não são arquivos vão para a memória
+    default ByteBuffer read() throws IOException {
+        try (InputStream input = open()) {
+            return ByteBuffer.wrap(input.readAllBytes());
+        }
+    }
+
+    // Arquivo em disco: o parser de bytes lê um mapeamento do arquivo, sem cópia para o heap
+    static ClientImportSource of(Path path) {
+        return new ClientImportSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return Files.newInputStream(path);
+            }
+
+            @Override
+            public long size() throws IOException {
+                return Files.size(path);
+            }
+
+            @Override
+            public ByteBuffer read() throws IOException {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+        };
+    }
+}
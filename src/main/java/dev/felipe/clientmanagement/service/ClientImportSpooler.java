@@ -0,0 +1,91 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.exception.domain.ImportFileTooLargeException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+// Copia o upload para um arquivo temporário em blocos de tamanho fixo, descompactando gzip no
+// caminho, para a importação ler do disco (ou de um mapeamento) em vez do heap.
+// O limite vale para o CSV descompactado, o que também barra arquivos gzip "bomba"
+@Component
+public class ClientImportSpooler {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long maxSize;
+    private final Path directory;
+
+    // O parser de bytes mapeia o arquivo inteiro num único MappedByteBuffer: no máximo 2GB
+    public ClientImportSpooler(@Value("${client.import.max-size:512MB}") DataSize maxSize,
+                               @Value("${client.import.spool-dir:${java.io.tmpdir}}") Path directory) {
+        this.maxSize = Math.min(maxSize.toBytes(), Integer.MAX_VALUE);
+        this.directory = directory;
+    }
+
+    public Path spool(MultipartFile file) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo vazio");
+        }
+
+        Path spooled = Files.createTempFile(directory, "client-import-", ".csv");
+        try (InputStream input = decompressed(file.getInputStream());
+             OutputStream output = Files.newOutputStream(spooled)) {
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long written = 0;
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                written += read;
+                if (written > maxSize) {
+                    throw new ImportFileTooLargeException(
+                            "Arquivo maior que o limite de " + DataSize.ofBytes(maxSize).toMegabytes() + "MB.");
+                }
+                output.write(buffer, 0, read);
+            }
+            return spooled;
+        } catch (ZipException | EOFException e) {
+            delete(spooled);
+            throw new IllegalArgumentException("Arquivo gzip corrompido.");
+        } catch (IOException | RuntimeException e) {
+            delete(spooled);
+            throw e;
+        }
+    }
+
+    public void delete(Path spooled) {
+        if (spooled == null) return;
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            // Sobra no diretório temporário; não deve derrubar o job nem a requisição
+            spooled.toFile().deleteOnExit();
+        }
+    }
+
+    // Reconhece gzip pelos bytes mágicos, não pelo nome ou Content-Type do upload
+    private static InputStream decompressed(InputStream raw) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(raw, BUFFER_SIZE);
+
+        input.mark(2);
+        int first = input.read();
+        int second = input.read();
+        input.reset();
+
+        if (first == 0x1f && second == 0x8b) {
+            return new GZIPInputStream(input, BUFFER_SIZE);
+        }
+        return input;
+    }
+}
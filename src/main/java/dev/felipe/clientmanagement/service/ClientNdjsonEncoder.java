@@ -0,0 +1,104 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+// Um objeto JSON por linha, com os campos da API e as datas como no CSV (yyyy-MM-dd):
+// {"name":"...","email":"...","phone":"...","createdAt":"2025-01-01","updatedAt":"2025-01-02"}
+public final class ClientNdjsonEncoder extends ClientExportEncoder {
+
+    private static final byte[] NAME = "{\"name\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EMAIL = ",\"email\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PHONE = ",\"phone\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CREATED_AT = ",\"createdAt\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UPDATED_AT = ",\"updatedAt\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    public ClientNdjsonEncoder(OutputStream outputStream) {
+        this(outputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ClientNdjsonEncoder(OutputStream outputStream, int bufferSize) {
+        super(outputStream, bufferSize);
+    }
+
+    // Sem cabeçalho: cada linha já traz os nomes dos campos
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(ClientExportRow client) throws IOException {
+        writeBytes(NAME);
+        writeString(client.name());
+        writeBytes(EMAIL);
+        writeString(client.email());
+        writeBytes(PHONE);
+        writeString(client.phone());
+        writeBytes(CREATED_AT);
+        writeDateValue(client.createdAt());
+        writeBytes(UPDATED_AT);
+        writeDateValue(client.updatedAt());
+        writeByte('}');
+        writeByte('\n');
+    }
+
+    private void writeDateValue(LocalDateTime value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+        writeByte('"');
+        writeDate(value);
+        writeByte('"');
+    }
+
+    // Escapa aspas, barra invertida e caracteres de controle; o resto vai como UTF-8
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeBytes(NULL);
+            return;
+        }
+
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            char c = value.charAt(i);
+
+            if (c >= 0x80) {
+                i = writeNonAscii(value, i);
+                continue;
+            }
+
+            ensure(6);
+            if (c == '"' || c == '\\') {
+                buffer[position++] = '\\';
+                buffer[position++] = (byte) c;
+            } else if (c == '\n') {
+                buffer[position++] = '\\';
+                buffer[position++] = 'n';
+            } else if (c == '\r') {
+                buffer[position++] = '\\';
+                buffer[position++] = 'r';
+            } else if (c == '\t') {
+                buffer[position++] = '\\';
+                buffer[position++] = 't';
+            } else if (c < 0x20) {
+                buffer[position++] = '\\';
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+            } else {
+                buffer[position++] = (byte) c;
+            }
+            i++;
+        }
+        writeByte('"');
+    }
+}
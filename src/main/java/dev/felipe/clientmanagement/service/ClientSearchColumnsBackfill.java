@@ -0,0 +1,42 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+
+// Preenche name_norm dos clientes criados antes da coluna existir
+@Component
+public class ClientSearchColumnsBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate transaction;
+
+    public ClientSearchColumnsBackfill(ClientRepository clientRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.clientRepository = clientRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer updated;
+
+        do {
+            updated = transaction.execute(status -> {
+                List<ClientSearchRow> rows = clientRepository.findRowsWithoutNameNorm(Limit.of(BATCH_SIZE));
+                rows.forEach(row ->
+                        clientRepository.updateNameNorm(row.id(), SearchUtils.normalizeName(row.name())));
+                return rows.size();
+            });
+        } while (updated != null && updated == BATCH_SIZE);
+    }
+}
@@ -0,0 +1,149 @@
+package dev.felipe.clientmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class ClientSearchIndex {
+
+    private final ClientRepository clientRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Cache<Long, OwnerTrigramIndex> indexes;
+
+    // Construções em andamento por dono: uma escrita no meio marca a construção como desatualizada
+    private final ConcurrentMap<Long, Set<AtomicBoolean>> building = new ConcurrentHashMap<>();
+
+    public ClientSearchIndex(ClientRepository clientRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${client.search.trigram-index.enabled:false}") boolean enabled,
+                             @Value("${client.search.trigram-index.max-owners:100}") long maxOwners,
+                             @Value("${client.search.trigram-index.ttl:30m}") Duration ttl) {
+        this.clientRepository = clientRepository;
+        this.enabled = enabled;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // O TTL força uma reconstrução periódica, corrigindo qualquer escrita perdida
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxOwners)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // Retorna null quando o índice está desligado, o termo é curto demais ou o índice recém-construído
+    // perdeu uma escrita, indicando que a busca deve cair na query JPQL
+    public long[] search(Long ownerId, String term) {
+        if (!enabled || term.length() < 3) return null;
+
+        OwnerTrigramIndex index = indexes.getIfPresent(ownerId);
+        if (index == null) index = build(ownerId);
+
+        return index != null ? index.search(term) : null;
+    }
+
+    public void onSaved(Long ownerId, Client client) {
+        if (!enabled || client.getId() == null) return;
+
+        onSaved(ownerId, new ClientSearchRow(
+                client.getId(), client.getName(), client.getEmail(), client.getPhone()));
+    }
+
+    public void onSaved(Long ownerId, ClientSearchRow row) {
+        if (!enabled) return;
+
+        afterCommit(ownerId, index -> index.put(row));
+    }
+
+    public void onDeleted(Long ownerId, Long clientId) {
+        if (!enabled) return;
+
+        afterCommit(ownerId, index -> index.remove(clientId));
+    }
+
+    public void invalidate(Long ownerId) {
+        afterCommit(ownerId, index -> indexes.invalidate(ownerId));
+    }
+
+    // Como em ClientDataVersions.bump, dentro de uma transação a escrita só chega ao índice depois
+    // do commit: antes disso uma construção concorrente ainda leria os dados antigos
+    private void afterCommit(Long ownerId, Consumer<OwnerTrigramIndex> write) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(ownerId, write);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(ownerId, write);
+            }
+        });
+    }
+
+    private void apply(Long ownerId, Consumer<OwnerTrigramIndex> write) {
+        OwnerTrigramIndex index = indexes.getIfPresent(ownerId);
+        if (index != null) write.accept(index);
+
+        building.computeIfPresent(ownerId, (id, builds) -> {
+            builds.forEach(stale -> stale.set(true));
+            return builds;
+        });
+    }
+
+    // Lê as linhas do dono fora do lock do cache, então as escritas desse dono não esperam a
+    // leitura. O índice entra no cache antes de a construção sair de "building": uma escrita
+    // depois disso já o encontra, e uma escrita durante a leitura o descarta
+    private OwnerTrigramIndex build(Long ownerId) {
+        AtomicBoolean stale = new AtomicBoolean();
+        building.compute(ownerId, (id, builds) -> {
+            Set<AtomicBoolean> current = builds != null ? builds : ConcurrentHashMap.newKeySet();
+            current.add(stale);
+            return current;
+        });
+
+        OwnerTrigramIndex index;
+        try {
+            OwnerTrigramIndex built = readOnlyTransaction.execute(status -> {
+                OwnerTrigramIndex fresh = new OwnerTrigramIndex();
+
+                try (Stream<ClientSearchRow> rows = clientRepository.streamSearchRowsByOwnerId(ownerId)) {
+                    rows.forEach(fresh::put);
+                }
+
+                return fresh;
+            });
+
+            OwnerTrigramIndex previous = indexes.asMap().putIfAbsent(ownerId, built);
+            index = previous != null ? previous : built;
+        } finally {
+            building.computeIfPresent(ownerId, (id, builds) -> {
+                builds.remove(stale);
+                return builds.isEmpty() ? null : builds;
+            });
+        }
+
+        if (stale.get()) {
+            indexes.asMap().remove(ownerId, index);
+            return null;
+        }
+        return index;
+    }
+}
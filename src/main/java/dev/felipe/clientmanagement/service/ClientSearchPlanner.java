@@ -0,0 +1,62 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+@Component
+public class ClientSearchPlanner {
+
+    public enum SearchShape {
+        PHONE_PREFIX,
+        PHONE,
+        EMAIL,
+        NAME
+    }
+
+    public record SearchPlan(SearchShape shape, String term) {
+    }
+
+    private static final Pattern DOMAIN = Pattern.compile("^[\\w-]+(\\.[\\w-]+)*\\.[a-z]{2,}$");
+
+    // Telefones têm 10 ou 11 dígitos: só um termo de 11 dígitos não pode começar depois do início.
+    // Com 10, o termo ainda pode ser o final de um telefone de 11 ("1987654321" em "11987654321")
+    private static final int FULL_PHONE_LENGTH = 11;
+
+    private final Map<SearchShape, Timer> timers = new EnumMap<>(SearchShape.class);
+
+    public ClientSearchPlanner(MeterRegistry meterRegistry) {
+        for (SearchShape shape : SearchShape.values()) {
+            timers.put(shape, Timer.builder("clients.search")
+                    .tag("shape", shape.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public SearchPlan plan(String search) {
+        String term = search.strip().toLowerCase(Locale.ROOT);
+
+        if (!term.isEmpty() && term.chars().allMatch(Character::isDigit)) {
+            SearchShape shape = term.length() >= FULL_PHONE_LENGTH ? SearchShape.PHONE_PREFIX : SearchShape.PHONE;
+            return new SearchPlan(shape, term);
+        }
+
+        // Mesmo um endereço completo é buscado por trecho: "ana@gmail.com" também acha "mariana@gmail.com"
+        // e um endereço ainda sendo digitado ("ana@gmail.co") continua achando o cliente
+        if (term.contains("@") || DOMAIN.matcher(term).matches()) {
+            return new SearchPlan(SearchShape.EMAIL, term);
+        }
+
+        return new SearchPlan(SearchShape.NAME, SearchUtils.normalizeName(term));
+    }
+
+    public <T> T record(SearchShape shape, Supplier<T> query) {
+        return timers.get(shape).record(query);
+    }
+}
@@ -1,6 +1,13 @@
 package dev.felipe.clientmanagement.service;
 
+import dev.felipe.clientmanagement.dto.client.ClientCursor;
+import dev.felipe.clientmanagement.dto.client.ClientCursorPage;
 import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientOffsetPage;
+import dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.dto.client.ClientSort;
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
 import dev.felipe.clientmanagement.exception.domain.ClientNotFoundException;
 import dev.felipe.clientmanagement.exception.domain.EmailAlreadyExistsException;
 import dev.felipe.clientmanagement.exception.domain.PhoneAlreadyExistsException;
@@ -8,28 +15,61 @@ import dev.felipe.clientmanagement.exception.domain.UserIsNotOwnerClientExceptio
 import dev.felipe.clientmanagement.model.Client;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.ClientRepository;
+import dev.felipe.clientmanagement.service.ClientSearchPlanner.SearchPlan;
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import java.util.Objects;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 @Service
 public class ClientService {
 
+    // pageSize = 11 devido a melhor visibilidade no frontend
+    private static final int PAGE_SIZE = 11;
+
     private final ClientRepository clientRepository;
+    private final ClientCountService clientCountService;
+    private final ClientSearchIndex clientSearchIndex;
+    private final ClientSearchPlanner clientSearchPlanner;
+    private final ClientDataVersions clientDataVersions;
+    private final boolean insertOnly;
 
-    public ClientService(ClientRepository clientRepository) {
+    public ClientService(ClientRepository clientRepository, ClientCountService clientCountService,
+                         ClientSearchIndex clientSearchIndex, ClientSearchPlanner clientSearchPlanner,
+                         ClientDataVersions clientDataVersions,
+                         @Value("${client.create.insert-only:true}") boolean insertOnly) {
         this.clientRepository = clientRepository;
+        this.clientCountService = clientCountService;
+        this.clientSearchIndex = clientSearchIndex;
+        this.clientSearchPlanner = clientSearchPlanner;
+        this.clientDataVersions = clientDataVersions;
+        this.insertOnly = insertOnly;
     }
 
     public void saveClient(ClientDTO dto, User user) {
 
-        if (clientRepository.existsClientByEmail(dto.email())) {
-            throw new EmailAlreadyExistsException("Esse email já existe em outro cliente.");
-        }
+        // No modo insert-only a unicidade fica a cargo das constraints do banco:
+        // um único round trip, e sem a corrida entre o "exists" e o INSERT
+        if (!insertOnly) {
+            if (clientRepository.existsClientByEmail(SearchUtils.normalizeEmail(dto.email()))) {
+                throw new EmailAlreadyExistsException("Esse email já existe em outro cliente.");
+            }
 
-        if (clientRepository.existsClientByPhone(dto.phone())) {
-            throw new PhoneAlreadyExistsException("Esse telefone já existe em outro cliente.");
+            if (clientRepository.existsClientByPhone(dto.phone())) {
+                throw new PhoneAlreadyExistsException("Esse telefone já existe em outro cliente.");
+            }
         }
 
         Client client = new Client();
@@ -39,54 +79,184 @@ public class ClientService {
         client.setPhone(dto.phone());
         client.setOwner(user);
 
-        clientRepository.save(client);
+        try {
+            clientRepository.saveAndFlush(client);
+        } catch (DataIntegrityViolationException e) {
+            throw ClientConstraintTranslator.translate(e);
+        }
+
+        clientCountService.add(user.getId(), 1);
+        clientSearchIndex.onSaved(user.getId(), client);
+        clientDataVersions.bump(user.getId());
     }
 
     public Page<Client> getClients(User user, int page, String search) {
 
-        // pageSize = 11 devido a melhor visibilidade no frontend
-        PageRequest pageRequest = PageRequest.of(page, 11);
+        PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE);
 
-        return clientRepository.findSearchClientByOwner_Id(user.getId(), search, pageRequest);
+        return clientRepository.findSearchClientByOwner_Id(user.getId(),
+                SearchUtils.normalizeName(search), pageRequest);
 
     }
 
-    public void updateClient(Long clientId, ClientDTO dto, User user) {
+    @Transactional(readOnly = true)
+    public ClientOffsetPage getClientsPage(User user, int page, String search) {
 
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new ClientNotFoundException("Esse cliente não existe."));
+        if (search != null && !search.isEmpty()) {
+            long[] matchedIds = clientSearchIndex.search(user.getId(), search);
+            if (matchedIds != null) return pageFromIndex(user, page, matchedIds);
+        }
 
-        if (clientRepository.existsClientByEmail(dto.email()) &&
-                !dto.email().equals(client.getEmail())) {
-            throw new EmailAlreadyExistsException("Esse email já existe em outro cliente.");
+        if (!clientCountService.isCounterMode()) {
+            Page<Client> clients = getClients(user, page, search);
+            return new ClientOffsetPage(clients.map(ClientResponseItemsDTO::from).getContent(),
+                    clients.getTotalElements(), true, clients.hasNext());
         }
 
-        if (clientRepository.existsClientByPhone(dto.phone()) &&
-                !dto.phone().equals(client.getPhone())) {
-            throw new PhoneAlreadyExistsException("Esse telefone já existe em outro cliente.");
+        PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE);
+
+        // Sem busca o total vem do contador por dono, sem COUNT(*) a cada listagem. O contador é
+        // desta instância, expira e é ajustado fora do commit, então o total é aproximado
+        if (search == null || search.isEmpty()) {
+            Slice<ClientResponseItemsDTO> clients = clientRepository
+                    .findSearchClientSliceByOwner_Id(user.getId(), null, pageRequest);
+            return new ClientOffsetPage(clients.getContent(), clientCountService.total(user.getId()),
+                    false, clients.hasNext());
         }
 
-        if (!Objects.equals(user.getId(), client.getOwner().getId())) {
-            throw new UserIsNotOwnerClientException(
-                    "Esse usuário não tem permissões para esse cliente.");
+        // Com busca o total é só um limite inferior: o que já foi visto mais um, se houver mais
+        Slice<ClientResponseItemsDTO> clients = searchByShape(user.getId(), search, pageRequest);
+        long estimated = (long) page * PAGE_SIZE + clients.getNumberOfElements()
+                + (clients.hasNext() ? 1 : 0);
+
+        return new ClientOffsetPage(clients.getContent(), estimated, false, clients.hasNext());
+    }
+
+    private Slice<ClientResponseItemsDTO> searchByShape(Long ownerId, String search, PageRequest pageRequest) {
+        SearchPlan plan = clientSearchPlanner.plan(search);
+        String term = plan.term();
+
+        return clientSearchPlanner.record(plan.shape(), () -> switch (plan.shape()) {
+            case PHONE_PREFIX -> clientRepository.findPhonePrefixSlice(ownerId, term, pageRequest);
+            case PHONE -> clientRepository.findPhoneSearchSlice(ownerId, term, pageRequest);
+            case EMAIL -> clientRepository.findEmailSearchSlice(ownerId, term, pageRequest);
+            case NAME -> clientRepository.findNameSearchSlice(ownerId, term, pageRequest);
+        });
+    }
+
+    // O índice já resolveu os ids da busca: só as linhas da página são lidas do banco
+    private ClientOffsetPage pageFromIndex(User user, int page, long[] matchedIds) {
+        int from = (int) Math.min((long) page * PAGE_SIZE, matchedIds.length);
+        int to = Math.min(from + PAGE_SIZE, matchedIds.length);
+
+        List<Long> pageIds = Arrays.stream(matchedIds, from, to).boxed().toList();
+        List<ClientResponseItemsDTO> clients = pageIds.isEmpty() ? new ArrayList<>()
+                : new ArrayList<>(clientRepository.findItemsByOwnerIdAndIdIn(user.getId(), pageIds));
+        clients.sort(Comparator.comparing(ClientResponseItemsDTO::id));
+
+        return new ClientOffsetPage(clients, matchedIds.length, true, to < matchedIds.length);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientCursorPage getClientsByCursor(User user, String cursor, String search, ClientSort sort) {
+
+        // Busca um item a mais para saber se existe outra página naquela direção
+        Limit limit = Limit.of(PAGE_SIZE + 1);
+
+        if (cursor == null || cursor.isBlank()) {
+            Sort order = Sort.by(sort.param(), "id");
+            List<ClientResponseItemsDTO> clients = new ArrayList<>(
+                    clientRepository.findFirstSearchClients(user.getId(), SearchUtils.normalizeName(search),
+                            order, limit));
+
+            boolean hasNext = trimToPageSize(clients);
+            String next = hasNext ? ClientCursor.after(sort, clients.getLast()).encode() : null;
+
+            return new ClientCursorPage(clients, next, null);
         }
 
-        client.setName(dto.name());
-        client.setEmail(dto.email().toLowerCase());
-        client.setPhone(dto.phone());
+        ClientCursor position = ClientCursor.decode(cursor);
+        List<ClientResponseItemsDTO> clients = new ArrayList<>(
+                seek(user.getId(), SearchUtils.normalizeName(search), position, limit));
+        boolean hasMore = trimToPageSize(clients);
 
-        clientRepository.save(client);
+        if (position.backward()) {
+            Collections.reverse(clients);
+        }
+
+        if (clients.isEmpty()) {
+            return new ClientCursorPage(clients, null, null);
+        }
+
+        String next = !position.backward() && !hasMore ? null
+                : ClientCursor.after(position.sort(), clients.getLast()).encode();
+        String prev = position.backward() && !hasMore ? null
+                : ClientCursor.before(position.sort(), clients.getFirst()).encode();
+
+        return new ClientCursorPage(clients, next, prev);
     }
 
-    public void deleteClient(Long clientId, User user) {
-        Client client = clientRepository.findById(clientId)
-                .orElseThrow(() -> new ClientNotFoundException("Esse cliente não existe."));
+    private List<ClientResponseItemsDTO> seek(Long ownerId, String search, ClientCursor position, Limit limit) {
+
+        if (position.sort() == ClientSort.NAME) {
+            return position.backward()
+                    ? clientRepository.findSearchClientsBeforeName(
+                            ownerId, search, position.value(), position.id(), limit)
+                    : clientRepository.findSearchClientsAfterName(
+                            ownerId, search, position.value(), position.id(), limit);
+        }
+
+        return position.backward()
+                ? clientRepository.findSearchClientsBeforeCreatedAt(
+                        ownerId, search, position.createdAt(), position.id(), limit)
+                : clientRepository.findSearchClientsAfterCreatedAt(
+                        ownerId, search, position.createdAt(), position.id(), limit);
+    }
+
+    private boolean trimToPageSize(List<ClientResponseItemsDTO> clients) {
+        if (clients.size() <= PAGE_SIZE) return false;
+
+        clients.subList(PAGE_SIZE, clients.size()).clear();
+        return true;
+    }
+
+    // Um único UPDATE/DELETE filtrado por id e dono; só quando nenhuma linha é afetada
+    // uma segunda consulta diferencia cliente inexistente de cliente de outro usuário
+    @Transactional
+    public void updateClient(Long clientId, ClientDTO dto, User user) {
+        String name = dto.name();
+        String email = SearchUtils.normalizeEmail(dto.email());
+        String phone = SearchUtils.normalizePhone(dto.phone());
+
+        int updated;
+        try {
+            updated = clientRepository.updateByIdAndOwnerId(clientId, user.getId(), name,
+                    SearchUtils.normalizeName(name), email, phone, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw ClientConstraintTranslator.translate(e);
+        }
+
+        if (updated == 0) throw missingOrNotOwned(clientId);
 
-        if (!Objects.equals(user.getId(), client.getOwner().getId())) {
-            throw new UserIsNotOwnerClientException(
-                    "Esse usuário não tem permissões para esse cliente.");
+        clientSearchIndex.onSaved(user.getId(), new ClientSearchRow(clientId, name, email, phone));
+        clientDataVersions.bump(user.getId());
+    }
+
+    @Transactional
+    public void deleteClient(Long clientId, User user) {
+        if (clientRepository.deleteByIdAndOwnerId(clientId, user.getId()) == 0) {
+            throw missingOrNotOwned(clientId);
         }
 
-        clientRepository.delete(client);
+        clientCountService.add(user.getId(), -1);
+        clientSearchIndex.onDeleted(user.getId(), clientId);
+        clientDataVersions.bump(user.getId());
+    }
+
+    private RuntimeException missingOrNotOwned(Long clientId) {
+        if (!clientRepository.existsById(clientId)) {
+            return new ClientNotFoundException("Esse cliente não existe.");
+        }
+        return new UserIsNotOwnerClientException("Esse usuário não tem permissões para esse cliente.");
     }
 }
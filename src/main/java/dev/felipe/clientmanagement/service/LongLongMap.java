@@ -0,0 +1,86 @@
+package dev.felipe.clientmanagement.service;
+
+// Mapa long -> long com endereçamento aberto, sem boxing; a chave 0 é reservada para "vazio"
+final class LongLongMap {
+
+    static final long MISSING = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(8, expected * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    long get(long key) {
+        for (int i = slot(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return values[i];
+        }
+        return MISSING;
+    }
+
+    void put(long key, long value) {
+        int i = find(key);
+        if (keys[i] == 0) {
+            insert(i, key, value);
+        } else {
+            values[i] = value;
+        }
+    }
+
+    // Devolve o valor já associado, ou MISSING depois de inserir o novo
+    long putIfAbsent(long key, long value) {
+        int i = find(key);
+        if (keys[i] != 0) return values[i];
+
+        insert(i, key, value);
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int find(long key) {
+        if (key == 0) throw new IllegalArgumentException("Chave 0 é reservada.");
+
+        int i = slot(key, mask);
+        while (keys[i] != 0 && keys[i] != key) i = (i + 1) & mask;
+        return i;
+    }
+
+    private void insert(int i, long key, long value) {
+        keys[i] = key;
+        values[i] = value;
+
+        if (++size * 2 > keys.length) grow();
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0) continue;
+
+            int i = slot(oldKeys[j], mask);
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
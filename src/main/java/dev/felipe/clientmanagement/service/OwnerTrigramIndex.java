@@ -0,0 +1,199 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.utils.SearchUtils;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class OwnerTrigramIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Cada cliente vira um documento com id local denso; as posting lists guardam
+    // esses ids em arrays de int ordenados, sem boxing
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByClientId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] clientIds = new long[64];
+    private String[] names = new String[64];
+    private String[] emails = new String[64];
+    private String[] phones = new String[64];
+    private int docCount;
+
+    public void put(ClientSearchRow row) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(row.id());
+            addUnlocked(row);
+
+            // Compacta quando a maior parte dos documentos já foi removida
+            int deletedCount = deleted.cardinality();
+            if (deletedCount > 1024 && deletedCount > docCount / 2) compactUnlocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long clientId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(clientId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByClientId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Retorna os ids (ordenados) dos clientes cujo nome, email ou telefone contém o termo,
+    // ou null quando o termo é curto demais para ter trigramas. Nome e termo passam pela mesma
+    // normalização das consultas no banco: "joao" encontra "João"
+    public long[] search(String term) {
+        String query = SearchUtils.normalizeName(term);
+        if (query.length() < 3) return null;
+
+        long[] trigrams = trigramsOf(query);
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[trigrams.length];
+            for (int i = 0; i < trigrams.length; i++) {
+                lists[i] = postings.get(trigrams[i]);
+                if (lists[i] == null) return new long[0];
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            int[] candidates = Arrays.copyOf(lists[0].docs, lists[0].size);
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+                candidateCount = intersect(candidates, candidateCount, lists[i]);
+            }
+
+            // Os trigramas podem vir de campos diferentes: confirma o "contains" de verdade
+            long[] result = new long[candidateCount];
+            int matches = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int doc = candidates[i];
+                if (deleted.get(doc)) continue;
+
+                if (names[doc].contains(query) || emails[doc].contains(query) || phones[doc].contains(query)) {
+                    result[matches++] = clientIds[doc];
+                }
+            }
+
+            long[] ids = Arrays.copyOf(result, matches);
+            Arrays.sort(ids);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addUnlocked(ClientSearchRow row) {
+        int doc = docCount++;
+        if (doc == clientIds.length) grow();
+
+        clientIds[doc] = row.id();
+        names[doc] = SearchUtils.normalizeName(row.name());
+        emails[doc] = row.email().toLowerCase(Locale.ROOT);
+        phones[doc] = row.phone();
+        docByClientId.put(row.id(), doc);
+
+        indexField(names[doc], doc);
+        indexField(emails[doc], doc);
+        indexField(phones[doc], doc);
+    }
+
+    private void removeUnlocked(Long clientId) {
+        Integer doc = docByClientId.remove(clientId);
+        if (doc != null) deleted.set(doc);
+    }
+
+    private void indexField(String value, int doc) {
+        for (int i = 0; i + 3 <= value.length(); i++) {
+            postings.computeIfAbsent(trigram(value, i), key -> new Postings()).add(doc);
+        }
+    }
+
+    private void compactUnlocked() {
+        long[] oldIds = clientIds;
+        String[] oldNames = names;
+        String[] oldEmails = emails;
+        String[] oldPhones = phones;
+        int oldCount = docCount;
+        BitSet oldDeleted = (BitSet) deleted.clone();
+
+        postings.clear();
+        docByClientId.clear();
+        deleted.clear();
+        clientIds = new long[Math.max(64, oldCount - oldDeleted.cardinality())];
+        names = new String[clientIds.length];
+        emails = new String[clientIds.length];
+        phones = new String[clientIds.length];
+        docCount = 0;
+
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldDeleted.get(doc)) continue;
+            addUnlocked(new ClientSearchRow(oldIds[doc], oldNames[doc], oldEmails[doc], oldPhones[doc]));
+        }
+    }
+
+    private void grow() {
+        int capacity = clientIds.length * 2;
+        clientIds = Arrays.copyOf(clientIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        phones = Arrays.copyOf(phones, capacity);
+    }
+
+    // Interseção in-place de duas listas ordenadas
+    private static int intersect(int[] candidates, int candidateCount, Postings other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < candidateCount && j < other.size; i++) {
+            int doc = candidates[i];
+            while (j < other.size && other.docs[j] < doc) j++;
+            if (j < other.size && other.docs[j] == doc) candidates[kept++] = doc;
+        }
+        return kept;
+    }
+
+    private static long[] trigramsOf(String value) {
+        long[] trigrams = new long[value.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = trigram(value, i);
+        }
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+
+    private static class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        // Documentos entram em ordem crescente, então basta olhar o último para evitar repetição
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) return;
+            if (size == docs.length) docs = Arrays.copyOf(docs, size * 2);
+            docs[size++] = doc;
+        }
+    }
+}
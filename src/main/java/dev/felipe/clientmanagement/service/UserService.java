@@ -7,6 +7,7 @@ import dev.felipe.clientmanagement.exception.domain.EmailAlreadyExistsException;
 import dev.felipe.clientmanagement.exception.domain.InvalidCredentialsException;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.UserRepository;
+import dev.felipe.clientmanagement.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -17,10 +18,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
     }
 
     public void saveUser(UserRegisterDTO dto) {
@@ -48,6 +52,12 @@ public class UserService {
             throw new InvalidCredentialsException("Senha inválida.");
         }
 
+        // Regera o hash quando o custo configurado muda
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(dto.password()));
+            userRepository.save(user);
+        }
+
         return user;
     }
 
@@ -59,6 +69,7 @@ public class UserService {
     public void deleteUser(Long id) {
         User user = findUserById(id);
         userRepository.delete(user);
+        principalCache.invalidate(id);
     }
 
     public void updateUser(Long id, UserUpdateDTO dto) {
@@ -67,11 +78,12 @@ public class UserService {
         user.setName(dto.username());
 
         userRepository.save(user);
+        principalCache.invalidate(id);
     }
 
     public User findUserByClaim(Claims claims) {
-        return userRepository.findById(Long.valueOf(claims.getSubject()))
-                .orElseThrow(() ->
-                        new UsernameNotFoundException("Usuário não encontrado. Tente outro ou registre-se."));
+        return principalCache.get(Long.valueOf(claims.getSubject()), userId ->
+                userRepository.findById(userId).orElseThrow(() ->
+                        new UsernameNotFoundException("Usuário não encontrado. Tente outro ou registre-se.")));
     }
 }
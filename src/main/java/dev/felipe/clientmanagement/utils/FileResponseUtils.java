@@ -0,0 +1,115 @@
+package dev.felipe.clientmanagement.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+// Envia um arquivo com ETag, If-None-Match, If-Range e um único intervalo em Range, para downloads
+// interrompidos continuarem de onde pararam. O corpo sai por FileChannel.transferTo de um canal que
+// quem chama já abriu: o sendfile do Tomcat reabriria o arquivo pelo nome depois que o handler
+// retorna, e a essa altura ele pode ter saído do cache
+public class FileResponseUtils {
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    // Inclusivo nas duas pontas, como no cabeçalho
+    record ByteRange(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+    }
+
+    public static void serve(HttpServletRequest request, HttpServletResponse response,
+                             FileChannel channel, long size, String etag) throws IOException {
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (notModified(request, etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // If-Range com outra ETag: o arquivo mudou e o intervalo pedido não vale mais
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = ifRange == null || ifRange.equals(etag)
+                ? parseRange(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+
+        if (range == UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+
+        if (range == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            range = new ByteRange(0, size - 1);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + size);
+        }
+
+        response.setContentLengthLong(range.length());
+        if (range.length() == 0 || "HEAD".equals(request.getMethod())) return;
+
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = range.start();
+        long remaining = range.length();
+
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) break;
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    // Comparação fraca, como pede o If-None-Match
+    public static boolean notModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    // null quando o cabeçalho deve ser ignorado (ausente, inválido ou com vários intervalos) e o
+    // arquivo vai inteiro; UNSATISFIABLE quando nenhum byte do intervalo existe
+    static ByteRange parseRange(String header, long size) {
+        if (header == null || !header.startsWith("bytes=")) return null;
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) return null;
+
+        try {
+            // "-n": os últimos n bytes
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix < 0) return null;
+                if (suffix == 0 || size == 0) return UNSATISFIABLE;
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long start = Long.parseLong(spec.substring(0, dash));
+            long end = dash == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(dash + 1));
+            if (end < start) return null;
+            if (start >= size) return UNSATISFIABLE;
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.felipe.clientmanagement.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class SearchUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+
+    // "João Conceição" -> "joao conceicao"
+    public static String normalizeName(String name) {
+        if (name == null) return null;
+
+        String decomposed = Normalizer.normalize(name.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizeEmail(String email) {
+        if (email == null) return null;
+
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public static String normalizePhone(String phone) {
+        if (phone == null) return null;
+
+        return NON_DIGITS.matcher(phone).replaceAll("");
+    }
+}
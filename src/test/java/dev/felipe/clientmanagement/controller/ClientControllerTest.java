@@ -0,0 +1,81 @@
+package dev.felipe.clientmanagement.controller;
+
+import dev.felipe.clientmanagement.security.JwtService;
+import dev.felipe.clientmanagement.service.ClientBatchService;
+import dev.felipe.clientmanagement.service.ClientService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ClientControllerTest {
+
+    @Mock
+    private ClientService clientService;
+
+    @Mock
+    private ClientBatchService clientBatchService;
+
+    @Mock
+    private JwtService jwtService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ClientController(clientService, clientBatchService, jwtService))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Update Client Operations")
+    class UpdateClient {
+
+        // O UPDATE em massa não passa pela validação da entidade: o corpo precisa ser barrado antes
+        @Test
+        void shouldRejectMalformedPhoneBeforeUpdating() throws Exception {
+            mockMvc.perform(patch("/api/v1/auth/clients/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body("(11) 9999-8888")))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(clientService);
+        }
+
+        @Test
+        void shouldRejectMissingNameAndEmailBeforeUpdating() throws Exception {
+            mockMvc.perform(patch("/api/v1/auth/clients/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"phone\":\"11999998888\"}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(clientService);
+        }
+
+        @Test
+        void shouldUpdateValidClient() throws Exception {
+            mockMvc.perform(patch("/api/v1/auth/clients/1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body("11999998888")))
+                    .andExpect(status().isOk());
+
+            verify(clientService).updateClient(eq(1L), any(), any());
+        }
+    }
+
+    private static String body(String phone) {
+        return "{\"name\":\"Maria Silva\",\"email\":\"maria@email.com\",\"phone\":\"" + phone + "\"}";
+    }
+}
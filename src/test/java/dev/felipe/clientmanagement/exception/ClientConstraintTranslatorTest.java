@@ -0,0 +1,81 @@
+package dev.felipe.clientmanagement.exception;
+
+import dev.felipe.clientmanagement.exception.domain.EmailAlreadyExistsException;
+import dev.felipe.clientmanagement.exception.domain.PhoneAlreadyExistsException;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import static org.junit.jupiter.api.Assertions.*;
+
+// O erro percorre o mesmo caminho de produção: PSQLException do driver, nome da constraint extraído
+// pelo dialeto do Postgres no Hibernate e tradução do Spring, antes de chegar ao ClientConstraintTranslator
+class ClientConstraintTranslatorTest {
+
+    private static final String INSERT = "insert into clients (email, phone) values (?, ?)";
+
+    @Nested
+    @DisplayName("Translation Operations")
+    class TranslationOperations {
+
+        @Test
+        void shouldTranslateEmailUniqueViolationFromPostgres() {
+            DataIntegrityViolationException ex = fromPostgres("23505",
+                    "duplicate key value violates unique constraint \"uk_clients_email\"",
+                    "Key (email)=(race@email.com) already exists.", "uk_clients_email");
+
+            ConstraintViolationException cause = assertInstanceOf(ConstraintViolationException.class, ex.getCause());
+            assertEquals(ClientConstraintTranslator.EMAIL_CONSTRAINT, cause.getConstraintName());
+            assertInstanceOf(EmailAlreadyExistsException.class, ClientConstraintTranslator.translate(ex));
+        }
+
+        @Test
+        void shouldTranslatePhoneUniqueViolationFromPostgres() {
+            DataIntegrityViolationException ex = fromPostgres("23505",
+                    "duplicate key value violates unique constraint \"uk_clients_phone\"",
+                    "Key (phone)=(11999998888) already exists.", "uk_clients_phone");
+
+            assertInstanceOf(PhoneAlreadyExistsException.class, ClientConstraintTranslator.translate(ex));
+        }
+
+        // Constraint com nome gerado pelo Hibernate, de bancos criados antes dos nomes fixos
+        @Test
+        void shouldFallBackToColumnInDetailForGeneratedConstraintNames() {
+            DataIntegrityViolationException ex = fromPostgres("23505",
+                    "duplicate key value violates unique constraint \"uk9x2kq7rj1c0dyv3\"",
+                    "Key (phone)=(11999998888) already exists.", "uk9x2kq7rj1c0dyv3");
+
+            assertInstanceOf(PhoneAlreadyExistsException.class, ClientConstraintTranslator.translate(ex));
+        }
+
+        @Test
+        void shouldReturnUnrelatedViolationUnchanged() {
+            DataIntegrityViolationException ex = fromPostgres("23503",
+                    "insert or update on table \"clients\" violates foreign key constraint \"fk_clients_owner\"",
+                    "Key (owner_id)=(99) is not present in table \"users\".", "fk_clients_owner");
+
+            assertSame(ex, ClientConstraintTranslator.translate(ex));
+        }
+    }
+
+    private static DataIntegrityViolationException fromPostgres(String sqlState, String message,
+                                                                String detail, String constraint) {
+        ServerErrorMessage serverError = new ServerErrorMessage(
+                "SERROR\0VERROR\0C" + sqlState + "\0M" + message + "\0D" + detail
+                        + "\0sclientmanagement\0tclients\0n" + constraint + "\0");
+        PSQLException psql = new PSQLException(serverError);
+
+        String name = new PostgreSQLDialect().getViolatedConstraintNameExtractor().extractConstraintName(psql);
+        ConstraintViolationException hibernate =
+                new ConstraintViolationException("could not execute statement", psql, INSERT, name);
+        DataAccessException spring = new HibernateJpaDialect().translateExceptionIfPossible(hibernate);
+
+        return assertInstanceOf(DataIntegrityViolationException.class, spring);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.felipe.clientmanagement.security;
+
+import dev.felipe.clientmanagement.exception.GlobalExceptionHandler;
+import dev.felipe.clientmanagement.exception.domain.TooManyAttemptsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.time.Duration;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimiterTest {
+
+    private final AuthRateLimiter limiter = new AuthRateLimiter(Duration.ofSeconds(90), 20, 2, 20, 2, 100);
+
+    @Nested
+    @DisplayName("Register Operations")
+    class RegisterOperations {
+
+        @Test
+        void shouldLimitRegisterByEmailAcrossIps() {
+            limiter.checkRegister("1.1.1.1", "ada@email.com");
+            limiter.checkRegister("2.2.2.2", "ADA@email.com");
+
+            assertThrows(TooManyAttemptsException.class, () -> limiter.checkRegister("3.3.3.3", "ada@email.com"));
+            assertDoesNotThrow(() -> limiter.checkRegister("3.3.3.3", "outra@email.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retry-After Operations")
+    class RetryAfterOperations {
+
+        @Test
+        void shouldDeriveRetryAfterFromConfiguredWindow() {
+            limiter.checkLogin("1.1.1.1", "ada@email.com");
+            limiter.checkLogin("1.1.1.1", "ada@email.com");
+
+            TooManyAttemptsException ex = assertThrows(TooManyAttemptsException.class,
+                    () -> limiter.checkLogin("1.1.1.1", "ada@email.com"));
+            assertEquals(Duration.ofSeconds(90), ex.getRetryAfter());
+
+            ResponseEntity<Map<String, String>> response =
+                    new GlobalExceptionHandler().handleTooManyAttemptsException(ex);
+
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+            assertEquals("90", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        }
+    }
+}
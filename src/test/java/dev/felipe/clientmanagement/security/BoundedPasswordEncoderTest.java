@@ -0,0 +1,86 @@
+package dev.felipe.clientmanagement.security;
+
+import dev.felipe.clientmanagement.exception.domain.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    void shouldDelegateHashingToPool() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+        when(delegate.encode("password")).thenReturn("hash");
+        when(delegate.matches("password", "hash")).thenReturn(true);
+
+        assertEquals("hash", encoder.encode("password"));
+        assertTrue(encoder.matches("password", "hash"));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void shouldFailFastWhenPoolAndQueueAreFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // Uma tarefa ocupa a única thread e outra ocupa a única vaga da fila
+            callers.submit(() -> encoder.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            callers.submit(() -> encoder.encode("b"));
+
+            await(() -> meterRegistry.get("password.hash.queue.size").gauge().value() == 1);
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void shouldFailWhenWaitTimeoutExpires() {
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), meterRegistry);
+        when(delegate.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return true;
+        });
+
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("password", "hash"));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("Condição não atingida a tempo");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dev.felipe.clientmanagement.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.MINUTES.toNanos(10));
+
+    @Nested
+    @DisplayName("Window Operations")
+    class WindowOperations {
+
+        @Test
+        void shouldRejectAfterLimitWithinWindow() {
+            SlidingWindowRateLimiter limiter =
+                    new SlidingWindowRateLimiter(3, Duration.ofMinutes(1), 100, now::get);
+
+            assertTrue(limiter.tryAcquire("1.1.1.1"));
+            assertTrue(limiter.tryAcquire("1.1.1.1"));
+            assertTrue(limiter.tryAcquire("1.1.1.1"));
+            assertFalse(limiter.tryAcquire("1.1.1.1"));
+
+            // Outras chaves têm contagem independente
+            assertTrue(limiter.tryAcquire("2.2.2.2"));
+        }
+
+        @Test
+        void shouldWeightPreviousWindowAndReleaseAfterItSlidesOut() {
+            SlidingWindowRateLimiter limiter =
+                    new SlidingWindowRateLimiter(2, Duration.ofMinutes(1), 100, now::get);
+
+            assertTrue(limiter.tryAcquire("key"));
+            assertTrue(limiter.tryAcquire("key"));
+
+            // Metade da janela anterior ainda conta: 2 * 0.5 = 1 tentativa livre
+            now.addAndGet(TimeUnit.SECONDS.toNanos(90));
+            assertTrue(limiter.tryAcquire("key"));
+            assertFalse(limiter.tryAcquire("key"));
+
+            now.addAndGet(TimeUnit.MINUTES.toNanos(2));
+            assertTrue(limiter.tryAcquire("key"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Operations")
+    class ConcurrencyOperations {
+
+        @Test
+        void shouldNeverAcceptMoreThanLimitUnderContention() throws Exception {
+            int limit = 50;
+            int threads = 32;
+            int attemptsPerThread = 1_000;
+
+            SlidingWindowRateLimiter limiter =
+                    new SlidingWindowRateLimiter(limit, Duration.ofMinutes(1), 1_000, now::get);
+
+            AtomicInteger accepted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+            for (int i = 0; i < threads; i++) {
+                pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < attemptsPerThread; j++) {
+                        if (limiter.tryAcquire("victim@email.com")) accepted.incrementAndGet();
+                        limiter.tryAcquire("ip-" + (j % 64));
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+            assertEquals(limit, accepted.get());
+        }
+
+        @Test
+        void shouldKeepMemoryBoundedByMaxKeys() {
+            SlidingWindowRateLimiter limiter =
+                    new SlidingWindowRateLimiter(1, Duration.ofMinutes(1), 100, now::get);
+
+            for (int i = 0; i < 10_000; i++) {
+                limiter.tryAcquire("ip-" + i);
+            }
+
+            limiter.cleanUp();
+            assertTrue(limiter.size() <= 100);
+        }
+    }
+}
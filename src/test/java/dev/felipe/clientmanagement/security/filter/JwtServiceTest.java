@@ -4,6 +4,7 @@ import dev.felipe.clientmanagement.security.JwtService;
 import dev.felipe.clientmanagement.security.TokenType;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,7 +23,7 @@ class JwtServiceTest {
     void setUp() {
         // Chave aleatória criada para teste
         String VALID_SECRET_KEY = "VGhpcy1pcy1hLXZlcnktc2VjdXJlLWFuZC1sb25nLXNlY3JldC1rZXk=";
-        jwtService = new JwtService(VALID_SECRET_KEY);
+        jwtService = new JwtService(VALID_SECRET_KEY, 100, new SimpleMeterRegistry());
     }
 
     @Nested
@@ -112,5 +113,25 @@ class JwtServiceTest {
 
             assertEquals("Token inválido.", exception.getMessage());
         }
+
+        @Test
+        void shouldReturnCachedClaimsWhenSameTokenIsValidatedAgain() {
+            String token = jwtService.generateToken(1L, "felipe@email.com", "Felipe", TokenType.ACCESS);
+
+            Claims first = jwtService.validateToken(token);
+            Claims second = jwtService.validateToken(token);
+
+            assertSame(first, second);
+        }
+
+        @Test
+        void shouldNotCacheTamperedToken() {
+            String token = jwtService.generateToken(1L, "felipe@email.com", "Felipe", TokenType.ACCESS);
+            jwtService.validateToken(token);
+
+            String tampered = token.substring(0, token.length() - 2) + "xx";
+
+            assertThrows(JwtException.class, () -> jwtService.validateToken(tampered));
+        }
     }
 }
\ No newline at end of file
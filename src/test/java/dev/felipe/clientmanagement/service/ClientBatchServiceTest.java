@@ -0,0 +1,216 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientBatchOperation;
+import dev.felipe.clientmanagement.dto.client.ClientBatchOperationType;
+import dev.felipe.clientmanagement.dto.client.ClientBatchResponseDTO;
+import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientBatchServiceTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ClientCountService clientCountService;
+
+    @Mock
+    private ClientSearchIndex clientSearchIndex;
+
+    @Mock
+    private ClientDataVersions clientDataVersions;
+
+    @InjectMocks
+    private ClientBatchService clientBatchService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = new User();
+        owner.setId(1L);
+    }
+
+    @Nested
+    @DisplayName("Batch Operations")
+    class BatchOperations {
+
+        @Test
+        void shouldApplyMixedOperationsInOneFlushPerPhase() {
+            Client existing = client(10L, "old@email.com", "11900000010");
+            Client removed = client(11L, "gone@email.com", "11900000011");
+
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection()))
+                    .thenReturn(List.of(existing, removed));
+            when(clientRepository.findRowsByEmailIn(anyCollection())).thenReturn(List.of());
+            when(clientRepository.findRowsByPhoneIn(anyCollection())).thenReturn(List.of());
+            assignIdsOnSave(100L);
+
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    create("Ada", "ADA@EMAIL.COM", "11900000001"),
+                    update(10L, "Updated", "new@email.com", "11900000010"),
+                    delete(11L)
+            ), owner);
+
+            assertEquals(3, response.succeeded());
+            assertEquals(0, response.failed());
+            assertEquals(201, response.results().get(0).status());
+            assertEquals(100L, response.results().get(0).id());
+            assertEquals(200, response.results().get(1).status());
+            assertEquals(200, response.results().get(2).status());
+
+            assertEquals("new@email.com", existing.getEmail());
+            assertEquals("Updated", existing.getName());
+            verify(clientRepository).deleteAll(List.of(removed));
+            verify(clientRepository, times(2)).flush();
+            verify(clientRepository, never()).findExistingIds(anyCollection());
+            verify(clientCountService, never()).add(anyLong(), anyLong());
+            verify(clientSearchIndex).invalidate(1L);
+            verify(clientDataVersions).bump(1L);
+        }
+
+        @Test
+        void shouldTellNotFoundFromNotOwner() {
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of());
+            when(clientRepository.findExistingIds(anyCollection())).thenReturn(List.of(20L));
+
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    delete(20L),
+                    delete(99L)
+            ), owner);
+
+            assertEquals(401, response.results().get(0).status());
+            assertEquals(404, response.results().get(1).status());
+            assertEquals(2, response.failed());
+            verify(clientRepository, never()).deleteAll(anyCollection());
+            verifyNoInteractions(clientCountService, clientSearchIndex);
+        }
+
+        @Test
+        void shouldRejectConflictsWithoutAbortingTheRestOfTheBatch() {
+            when(clientRepository.findRowsByEmailIn(anyCollection()))
+                    .thenReturn(List.of(new ClientSearchRow(50L, "Other", "taken@email.com", "11900000050")));
+            when(clientRepository.findRowsByPhoneIn(anyCollection())).thenReturn(List.of());
+            assignIdsOnSave(100L);
+
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    create("Ada", "taken@email.com", "11900000001"),
+                    create("Bob", "bob@email.com", "11900000002"),
+                    create("Bob Twin", "BOB@email.com", "11900000003"),
+                    create("Phone Twin", "twin@email.com", "11900000002")
+            ), owner);
+
+            assertEquals(409, response.results().get(0).status());
+            assertEquals(201, response.results().get(1).status());
+            assertEquals(409, response.results().get(2).status());
+            assertEquals("Esse telefone já existe em outro cliente.", response.results().get(3).message());
+            assertEquals(1, response.succeeded());
+            verify(clientCountService).add(1L, 1);
+        }
+
+        @Test
+        void shouldReuseValuesFreedByEarlierDeleteInTheSameBatch() {
+            Client removed = client(11L, "reuse@email.com", "11900000011");
+
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of(removed));
+            when(clientRepository.findRowsByEmailIn(anyCollection()))
+                    .thenReturn(List.of(new ClientSearchRow(11L, "Removed", "reuse@email.com", "11900000011")));
+            when(clientRepository.findRowsByPhoneIn(anyCollection())).thenReturn(List.of());
+            assignIdsOnSave(100L);
+
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    delete(11L),
+                    create("New", "reuse@email.com", "11900000011"),
+                    update(11L, "Late", "late@email.com", "11900000012")
+            ), owner);
+
+            assertEquals(200, response.results().get(0).status());
+            assertEquals(201, response.results().get(1).status());
+            assertEquals(404, response.results().get(2).status());
+
+            var order = inOrder(clientRepository);
+            order.verify(clientRepository).deleteAll(anyCollection());
+            order.verify(clientRepository).flush();
+            order.verify(clientRepository).saveAll(anyCollection());
+            order.verify(clientRepository).flush();
+        }
+
+        @Test
+        void shouldKeepValuesReleasedByUpdateTakenForOtherOperations() {
+            Client existing = client(10L, "swap@email.com", "11900000010");
+
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of(existing));
+            when(clientRepository.findRowsByEmailIn(anyCollection())).thenReturn(List.of());
+            when(clientRepository.findRowsByPhoneIn(anyCollection())).thenReturn(List.of());
+
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    update(10L, "Moved", "moved@email.com", "11900000010"),
+                    create("Claim", "swap@email.com", "11900000001")
+            ), owner);
+
+            assertEquals(200, response.results().get(0).status());
+            assertEquals(409, response.results().get(1).status());
+        }
+
+        @Test
+        void shouldRejectOperationsMissingRequiredFields() {
+            ClientBatchResponseDTO response = clientBatchService.execute(List.of(
+                    new ClientBatchOperation(ClientBatchOperationType.DELETE, null, null),
+                    new ClientBatchOperation(ClientBatchOperationType.CREATE, null, null)
+            ), owner);
+
+            assertEquals(400, response.results().get(0).status());
+            assertEquals(400, response.results().get(1).status());
+            verify(clientRepository, never()).saveAll(anyCollection());
+        }
+    }
+
+    private void assignIdsOnSave(long firstId) {
+        AtomicLong ids = new AtomicLong(firstId);
+        when(clientRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Client> clients = invocation.getArgument(0);
+            clients.forEach(client -> client.setId(ids.getAndIncrement()));
+            return List.copyOf(clients);
+        });
+    }
+
+    private Client client(Long id, String email, String phone) {
+        Client client = new Client();
+        client.setId(id);
+        client.setName("Client " + id);
+        client.setEmail(email);
+        client.setPhone(phone);
+        client.setOwner(owner);
+        return client;
+    }
+
+    private static ClientBatchOperation create(String name, String email, String phone) {
+        return new ClientBatchOperation(ClientBatchOperationType.CREATE, null, new ClientDTO(name, email, phone));
+    }
+
+    private static ClientBatchOperation update(Long id, String name, String email, String phone) {
+        return new ClientBatchOperation(ClientBatchOperationType.UPDATE, id, new ClientDTO(name, email, phone));
+    }
+
+    private static ClientBatchOperation delete(Long id) {
+        return new ClientBatchOperation(ClientBatchOperationType.DELETE, id, null);
+    }
+}
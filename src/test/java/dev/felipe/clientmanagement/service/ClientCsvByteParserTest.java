@@ -0,0 +1,149 @@
+package dev.felipe.clientmanagement.service;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCsvByteParserTest {
+
+    private static final String HEADER = "Nome,Email,Telefone,Criado em,Atualizado em\n";
+
+    private static final String TRICKY = HEADER +
+            "Maria Silva,maria@email.com,11888888888,2025-01-01,2025-01-02\n" +
+            "\n" +
+            "\"Souza, Pedro\",pedro@email.com,11777777777,2025-01-01,2025-01-02\r\n" +
+            "\"Ana \"\"Aninha\"\" Lima\", ana@email.com ,11666666666,2025-01-01,2025-01-02\n" +
+            "\"João\nda Conceição\",joao@email.com,11555555555,2025-01-01,2025-01-02\n" +
+            "Carlos,carlos@email.com,11444444444,2025-01-01\n" +
+            "Beatriz,bia@email.com,11333333333,2025-01-01,2025-01-02,extra\n" +
+            "Último,ultimo@email.com,11222222222,2025-01-01,2025-01-02\n";
+
+    @Nested
+    @DisplayName("Parse Operations")
+    class ParseOperations {
+
+        @Test
+        void shouldMatchCommonsCsvForEverySegmentSize() throws IOException {
+            List<ClientImportRow> expected = commonsCsv(TRICKY);
+
+            for (int segmentSize = 1; segmentSize <= TRICKY.length() + 1; segmentSize++) {
+                try (ClientCsvByteParser parser = parser(3, DataSize.ofBytes(segmentSize))) {
+                    assertEquals(expected, parse(parser, TRICKY), "segmento de " + segmentSize + " bytes");
+                }
+            }
+        }
+
+        @Test
+        void shouldFindColumnsInAnyOrder() {
+            String csv = "Telefone,Atualizado em,Nome,Criado em,Email,Cidade\n" +
+                    "11888888888,2025-01-02,Maria,2025-01-01,maria@email.com,São Paulo\n";
+
+            try (ClientCsvByteParser parser = parser(1, DataSize.ofMegabytes(4))) {
+                ClientImportRow row = parse(parser, csv).getFirst();
+
+                assertEquals("Maria", row.name());
+                assertEquals("maria@email.com", row.email());
+                assertEquals("2025-01-02", row.updatedAt());
+            }
+        }
+
+        @Test
+        void shouldIgnoreByteOrderMark() {
+            byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+            byte[] csv = (HEADER + "Maria,maria@email.com,11888888888,2025-01-01,2025-01-02\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            ByteBuffer data = ByteBuffer.allocate(bom.length + csv.length).put(bom).put(csv).flip();
+
+            try (ClientCsvByteParser parser = parser(1, DataSize.ofMegabytes(4))) {
+                List<ClientImportRow> rows = new ArrayList<>();
+                parser.parse(data, () -> false, rows::add);
+
+                assertEquals("Maria", rows.getFirst().name());
+            }
+        }
+
+        @Test
+        void shouldRejectMissingColumns() {
+            try (ClientCsvByteParser parser = parser(1, DataSize.ofMegabytes(4))) {
+                IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                        () -> parse(parser, "Nome,Email\nMaria,maria@email.com\n"));
+                assertEquals("Colunas obrigatórias ausentes: Telefone, Criado em, Atualizado em", e.getMessage());
+            }
+        }
+
+        @Test
+        void shouldStopWhenCancelled() {
+            try (ClientCsvByteParser parser = parser(2, DataSize.ofBytes(16))) {
+                List<ClientImportRow> rows = new ArrayList<>();
+                boolean completed = parser.parse(ByteBuffer.wrap(TRICKY.getBytes(StandardCharsets.UTF_8)),
+                        () -> rows.size() == 2, rows::add);
+
+                assertFalse(completed);
+                assertEquals(2, rows.size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Date Operations")
+    class DateOperations {
+
+        @Test
+        void shouldParseIsoDate() {
+            assertEquals(LocalDate.of(2025, 1, 31), ClientCsvByteParser.parseDate("2025-01-31"));
+        }
+
+        @Test
+        void shouldRejectInvalidDates() {
+            assertThrows(DateTimeException.class, () -> ClientCsvByteParser.parseDate("01/01/2025"));
+            assertThrows(DateTimeException.class, () -> ClientCsvByteParser.parseDate("2025-02-30"));
+            assertThrows(DateTimeException.class, () -> ClientCsvByteParser.parseDate("2025-1-01"));
+            assertThrows(DateTimeException.class, () -> ClientCsvByteParser.parseDate(null));
+        }
+    }
+
+    private static ClientCsvByteParser parser(int parallelism, DataSize segmentSize) {
+        return new ClientCsvByteParser(true, parallelism, segmentSize, DataSize.ofMegabytes(8));
+    }
+
+    private static List<ClientImportRow> parse(ClientCsvByteParser parser, String csv) {
+        List<ClientImportRow> rows = new ArrayList<>();
+        parser.parse(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)), () -> false, rows::add);
+        return rows;
+    }
+
+    // Referência: o mesmo formato usado pela importação com commons-csv
+    private static List<ClientImportRow> commonsCsv(String csv) throws IOException {
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .build();
+
+        List<ClientImportRow> rows = new ArrayList<>();
+        try (CSVParser parser = format.parse(new StringReader(csv))) {
+            for (CSVRecord record : parser) {
+                long line = parser.getCurrentLineNumber();
+                rows.add(record.isConsistent()
+                        ? new ClientImportRow(line, true, record.get("Nome"), record.get("Email"),
+                                record.get("Telefone"), record.get("Criado em"), record.get("Atualizado em"))
+                        : new ClientImportRow(line, false, null, null, null, null, null));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientCsvEncoderTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 30);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+    private static final List<String> TRICKY = List.of(
+            "Maria Silva", "", " espaço no início", "espaço no fim ", "#comentário", "!exclamação",
+            "\"Aninha\"", "Souza, Pedro", "João\nda Conceição", "linha\r\nnova", "tab\t", "Zé", "São Paulo",
+            "中文", "emoji 😀", "sem par \uD83D", "\uDE00 sem par", "a\"b", "$dólar", "-traço");
+
+    @Nested
+    @DisplayName("Encode Operations")
+    class EncodeOperations {
+
+        @Test
+        void shouldMatchCsvPrinterForTrickyValues() throws IOException {
+            List<ClientExportRow> rows = new ArrayList<>();
+            for (String value : TRICKY) {
+                rows.add(new ClientExportRow(value, value, value, CREATED_AT, UPDATED_AT));
+                rows.add(new ClientExportRow("Nome", value, "11999999999", CREATED_AT, UPDATED_AT));
+            }
+
+            assertArrayEquals(csvPrinter(rows), encode(rows, 64 * 1024));
+        }
+
+        @Test
+        void shouldMatchCsvPrinterForEveryBufferSize() throws IOException {
+            Random random = new Random(42);
+            List<ClientExportRow> rows = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                rows.add(new ClientExportRow(TRICKY.get(random.nextInt(TRICKY.size())) + i,
+                        "cliente" + i + "@email.com", TRICKY.get(random.nextInt(TRICKY.size())),
+                        LocalDateTime.of(random.nextInt(10_000), 1 + random.nextInt(12), 1 + random.nextInt(28), 0, 0),
+                        UPDATED_AT));
+            }
+
+            byte[] expected = csvPrinter(rows);
+            for (int bufferSize = 16; bufferSize <= 256; bufferSize++) {
+                assertArrayEquals(expected, encode(rows, bufferSize), "buffer de " + bufferSize + " bytes");
+            }
+        }
+
+        @Test
+        void shouldWriteHeaderOnlyWhenNoRows() throws IOException {
+            assertEquals("Nome,Email,Telefone,Criado em,Atualizado em\r\n",
+                    new String(encode(List.of(), 16), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static byte[] encode(List<ClientExportRow> rows, int bufferSize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ClientCsvEncoder encoder = new ClientCsvEncoder(output, bufferSize);
+        encoder.writeHeader();
+        for (ClientExportRow row : rows) encoder.write(row);
+        encoder.flush();
+        return output.toByteArray();
+    }
+
+    // Referência: a exportação como era feita com commons-csv
+    private static byte[] csvPrinter(List<ClientExportRow> rows) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        try (CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().build())) {
+            printer.printRecord("Nome", "Email", "Telefone", "Criado em", "Atualizado em");
+            for (ClientExportRow row : rows) {
+                printer.printRecord(row.name(), row.email(), row.phone(),
+                        row.createdAt().toLocalDate(), row.updatedAt().toLocalDate());
+            }
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,240 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientExportCacheTest {
+
+    @Mock
+    private ClientFilesService clientFilesService;
+
+    @TempDir
+    Path directory;
+
+    private ClientDataVersions clientDataVersions;
+
+    @BeforeEach
+    void setUp() {
+        clientDataVersions = new ClientDataVersions(100);
+    }
+
+    @Nested
+    @DisplayName("Cache Operations")
+    class CacheOperations {
+
+        @Test
+        void shouldStoreExportAndFindItForTheSameVersion() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofMegabytes(1));
+            User user = user(1L);
+            exports("Nome,Email\r\nMaria,maria@email.com\r\n");
+
+            ClientExportCache.Key key = cache.key(user, ClientExportFormat.CSV);
+            assertNull(cache.find(key));
+
+            assertEquals("Nome,Email\r\nMaria,maria@email.com\r\n", export(cache, user, key));
+
+            try (ClientExportCache.Artifact artifact = cache.find(cache.key(user, ClientExportFormat.CSV))) {
+                assertNotNull(artifact);
+                assertEquals("Nome,Email\r\nMaria,maria@email.com\r\n", content(artifact));
+                assertEquals(Files.size(files()[0]), artifact.size());
+            }
+            verify(clientFilesService, times(1)).export(eq(user), eq(ClientExportFormat.CSV), any());
+        }
+
+        @Test
+        void shouldKeepFormatsApartAndQuoteEtag() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofMegabytes(1));
+            User user = user(1L);
+            exports("conteudo");
+
+            ClientExportCache.Key csv = cache.key(user, ClientExportFormat.CSV);
+            ClientExportCache.Key ndjson = cache.key(user, ClientExportFormat.NDJSON);
+            export(cache, user, csv);
+
+            assertNotNull(read(cache, csv));
+            assertNull(read(cache, ndjson));
+            assertNotEquals(csv.etag(), ndjson.etag());
+            assertTrue(csv.etag().startsWith("\"") && csv.etag().endsWith("\""));
+        }
+
+        @Test
+        void shouldMissAndDropOldFileAfterVersionBump() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofMegabytes(1));
+            User user = user(1L);
+            exports("antes");
+
+            ClientExportCache.Key before = cache.key(user, ClientExportFormat.CSV);
+            export(cache, user, before);
+            Path old = files()[0];
+
+            clientDataVersions.bump(1L);
+            exports("depois");
+
+            ClientExportCache.Key after = cache.key(user, ClientExportFormat.CSV);
+            assertNotEquals(before.etag(), after.etag());
+            assertNull(read(cache, after));
+
+            assertEquals("depois", export(cache, user, after));
+
+            assertEquals("depois", read(cache, after));
+            assertFalse(Files.exists(old));
+            assertEquals(1, files().length);
+        }
+
+        @Test
+        void shouldEvictLeastRecentlyUsedWhenOverMaxSize() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofBytes(10));
+            exports("1234");
+
+            ClientExportCache.Key first = cache.key(user(1L), ClientExportFormat.CSV);
+            ClientExportCache.Key second = cache.key(user(2L), ClientExportFormat.CSV);
+            ClientExportCache.Key third = cache.key(user(3L), ClientExportFormat.CSV);
+
+            export(cache, user(1L), first);
+            export(cache, user(2L), second);
+            // O primeiro passa a ser o mais recente
+            assertNotNull(read(cache, first));
+            export(cache, user(3L), third);
+
+            assertNotNull(read(cache, first));
+            assertNull(read(cache, second));
+            assertNotNull(read(cache, third));
+            assertEquals(2, files().length);
+        }
+
+        @Test
+        void shouldServeButNotStoreExportLargerThanMaxSize() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofBytes(4));
+            User user = user(1L);
+            exports("maior que o limite");
+
+            ClientExportCache.Key key = cache.key(user, ClientExportFormat.CSV);
+
+            assertEquals("maior que o limite", export(cache, user, key));
+            assertNull(read(cache, key));
+            assertEquals(0, files().length);
+        }
+
+        @Test
+        void shouldNotStoreFailedExport() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofMegabytes(1));
+            User user = user(1L);
+            doAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(2);
+                outputStream.write("parcial".getBytes(StandardCharsets.UTF_8));
+                throw new IOException("conexão perdida");
+            }).when(clientFilesService).export(any(), any(), any());
+
+            ClientExportCache.Key key = cache.key(user, ClientExportFormat.CSV);
+
+            assertThrows(IOException.class, () -> export(cache, user, key));
+            assertNull(read(cache, key));
+            assertEquals(0, files().length);
+        }
+
+        @Test
+        void shouldFindNothingWhenFileWasRemoved() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofMegabytes(1));
+            User user = user(1L);
+            exports("conteudo");
+
+            ClientExportCache.Key key = cache.key(user, ClientExportFormat.CSV);
+            export(cache, user, key);
+            Files.delete(files()[0]);
+
+            assertNull(cache.find(key));
+        }
+
+        // O store() de outro usuário apaga o arquivo entre o find() e o envio: o download continua
+        @Test
+        void shouldKeepServingFoundArtifactAfterEviction() throws IOException {
+            ClientExportCache cache = cache(DataSize.ofBytes(10));
+            exports("12345678");
+
+            ClientExportCache.Key first = cache.key(user(1L), ClientExportFormat.CSV);
+            export(cache, user(1L), first);
+
+            try (ClientExportCache.Artifact artifact = cache.find(first)) {
+                export(cache, user(2L), cache.key(user(2L), ClientExportFormat.CSV));
+                assertNull(read(cache, first));
+
+                assertEquals("12345678", content(artifact));
+            }
+        }
+
+        @Test
+        void shouldClearLeftoversOnStartup() throws IOException {
+            Path leftover = Files.writeString(directory.resolve("client-export-1-csv-7"), "antigo");
+            Path unrelated = Files.writeString(directory.resolve("outro.txt"), "fica");
+
+            cache(DataSize.ofMegabytes(1));
+
+            assertFalse(Files.exists(leftover));
+            assertTrue(Files.exists(unrelated));
+        }
+    }
+
+    private ClientExportCache cache(DataSize maxSize) throws IOException {
+        return new ClientExportCache(clientFilesService, clientDataVersions, true, directory, maxSize);
+    }
+
+    private void exports(String content) throws IOException {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(clientFilesService).export(any(), any(), any());
+    }
+
+    private static String export(ClientExportCache cache, User user, ClientExportCache.Key key) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cache.export(user, key, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    // Conteúdo do arquivo guardado, ou null se não estiver no cache
+    private static String read(ClientExportCache cache, ClientExportCache.Key key) throws IOException {
+        try (ClientExportCache.Artifact artifact = cache.find(key)) {
+            return artifact != null ? content(artifact) : null;
+        }
+    }
+
+    private static String content(ClientExportCache.Artifact artifact) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate((int) artifact.size());
+        artifact.channel().read(content, 0);
+        return new String(content.array(), StandardCharsets.UTF_8);
+    }
+
+    private Path[] files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toArray(Path[]::new);
+        }
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
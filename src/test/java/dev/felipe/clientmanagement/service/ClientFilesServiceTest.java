@@ -1,25 +1,32 @@
 package dev.felipe.clientmanagement.service;
 
-import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.dto.client.ClientExportFormat;
+import dev.felipe.clientmanagement.dto.client.ClientExportRange;
+import dev.felipe.clientmanagement.dto.client.ClientExportRow;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.ClientRepository;
-import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.multipart.MultipartFile;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import static dev.felipe.clientmanagement.dto.client.ClientExportFormat.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +35,21 @@ class ClientFilesServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
-    @InjectMocks
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ClientFilesService clientFilesService;
 
+    @BeforeEach
+    void setUp() {
+        clientFilesService = new ClientFilesService(clientRepository, transactionManager, false, 0, 1, 4, 10, 6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFilesService.close();
+    }
+
     @Nested
     @DisplayName("CSV Generation Operations")
     class CSVGeneration {
@@ -40,14 +59,10 @@ class ClientFilesServiceTest {
             User user = new User();
             user.setId(1L);
 
-            Client client = new Client();
-            client.setName("João Silva");
-            client.setEmail("joao@email.com");
-            client.setPhone("11999999999");
-            client.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
-            client.setUpdatedAt(LocalDateTime.of(2025, 1, 2, 0, 0));
+            ClientExportRow client = new ClientExportRow("João Silva", "joao@email.com", "11999999999",
+                    LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0));
 
-            when(clientRepository.streamAllByOwnerId(1L)).thenReturn(Stream.of(client));
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(Stream.of(client));
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
             clientFilesService.generateCSV(user, outputStream);
@@ -60,7 +75,7 @@ class ClientFilesServiceTest {
             assertTrue(csv.contains("João Silva"));
             assertTrue(csv.contains("joao@email.com"));
             assertTrue(csv.contains("2025-01-01"));
-            verify(clientRepository).streamAllByOwnerId(1L);
+            verify(clientRepository).streamExportRowsByOwnerId(1L);
         }
 
         @Test
@@ -68,7 +83,7 @@ class ClientFilesServiceTest {
             User user = new User();
             user.setId(1L);
 
-            when(clientRepository.streamAllByOwnerId(1L)).thenReturn(Stream.empty());
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(Stream.empty());
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
             clientFilesService.generateCSV(user, outputStream);
@@ -77,71 +92,271 @@ class ClientFilesServiceTest {
 
             assertTrue(csv.contains("Nome,Email,Telefone"));
             assertFalse(csv.contains("@email.com"));
-            verify(clientRepository).streamAllByOwnerId(1L);
+            verify(clientRepository).streamExportRowsByOwnerId(1L);
         }
-    }
 
-    @Nested
-    @DisplayName("CSV Import Operations")
-    class CSVImport {
+        // Sem depender do GC: a saída acompanha o cursor, e o que foi lido e ainda não foi escrito
+        // nunca passa do buffer do codificador, qualquer que seja o número de linhas
+        @Test
+        void shouldWriteRowsWhileStreamingInsteadOfHoldingThem() throws IOException {
+            User user = new User();
+            user.setId(1L);
+
+            int total = 200_000;
+            long[] written = {0};
+            long[] writtenAt = new long[total];
+
+            OutputStream counting = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    written[0]++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    written[0] += len;
+                }
+            };
+
+            // Linhas de tamanho fixo, geradas sob demanda como o cursor do banco
+            Stream<ClientExportRow> rows = IntStream.range(0, total).mapToObj(i -> {
+                writtenAt[i] = written[0];
+                return new ClientExportRow(String.format("Cliente %06d", i),
+                        String.format("cliente%06d@email.com", i), String.format("119%08d", i),
+                        LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0));
+            });
+
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(Stream.empty()).thenReturn(rows);
+
+            ByteArrayOutputStream headerOnly = new ByteArrayOutputStream();
+            clientFilesService.generateCSV(user, headerOnly);
+            clientFilesService.generateCSV(user, counting);
+
+            long header = headerOnly.size();
+            long rowLength = (written[0] - header) / total;
+            assertEquals(header + rowLength * total, written[0]);
+
+            long maxPending = 0;
+            for (int i = 0; i < total; i++) {
+                maxPending = Math.max(maxPending, header + rowLength * i - writtenAt[i]);
+            }
+            assertTrue(maxPending <= ClientExportEncoder.DEFAULT_BUFFER_SIZE, maxPending + " bytes retidos");
+            assertTrue(written[0] > 100L * ClientExportEncoder.DEFAULT_BUFFER_SIZE);
+        }
 
         @Test
-        void shouldImportAndSaveClientsSuccessfully() throws IOException {
+        void shouldWriteTheSameBytesWhenExportingRangesInParallel() throws IOException {
             User user = new User();
             user.setId(1L);
-            String csvContent = """
-                    Nome,Email,Telefone,Criado em,Atualizado em
-                    Maria Silva,MARIA@EMAIL.COM,11888888888,2025-01-01,2025-01-02
-                    """;
-
-            MultipartFile file = mock(MultipartFile.class);
-            when(file.isEmpty()).thenReturn(false);
-            when(file.getInputStream()).thenReturn(
-                    new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
-
-            clientFilesService.importCSV(file, user);
-
-            verify(clientRepository).saveAll(argThat(clients -> {
-                Client saved = clients.iterator().next();
-                return saved.getName().equals("Maria Silva") &&
-                        saved.getEmail().equals("maria@email.com") &&
-                        saved.getOwner().getId().equals(1L);
-            }));
-            verify(clientRepository).flush();
+
+            // Ids esparsos, como os de uma sequência compartilhada entre usuários
+            TreeMap<Long, ClientExportRow> clients = new TreeMap<>();
+            for (int i = 0; i < 500; i++) {
+                String name = i % 7 == 0 ? "Souza, \"Pedro\" " + i : "Conceição " + i;
+                clients.put(3L + i * 13L + (i % 5), new ClientExportRow(name, "cliente" + i + "@email.com",
+                        "119" + i, LocalDateTime.of(2025, 1, 1 + i % 28, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0)));
+            }
+
+            when(clientRepository.streamExportRowsByOwnerId(1L))
+                    .thenAnswer(invocation -> clients.values().stream());
+            when(clientRepository.findExportRangeByOwnerId(1L))
+                    .thenReturn(new ClientExportRange(clients.firstKey(), clients.lastKey(), (long) clients.size()));
+            when(clientRepository.streamExportRowsByOwnerIdAndIdRange(eq(1L), anyLong(), anyLong()))
+                    .thenAnswer(invocation -> clients.subMap(invocation.getArgument(1), invocation.getArgument(2))
+                            .values().stream());
+
+            for (ClientExportFormat format : List.of(CSV, CSV_GZIP, NDJSON)) {
+                byte[] serial = content(format, export(clientFilesService, user, format));
+
+                for (long partitionRows : new long[]{1, 7, 64, 499, 500, 10_000}) {
+                    try (ClientFilesService parallel = new ClientFilesService(
+                            clientRepository, transactionManager, true, 0, partitionRows, 3, 10, 6)) {
+
+                        assertArrayEquals(serial, content(format, export(parallel, user, format)),
+                                format + ", faixas de " + partitionRows);
+                    }
+                }
+            }
         }
 
         @Test
-        void shouldThrowExceptionWhenFileIsEmpty() {
+        void shouldExportSeriallyBelowTheParallelThreshold() throws IOException {
             User user = new User();
-            MultipartFile file = mock(MultipartFile.class);
-            when(file.isEmpty()).thenReturn(true);
+            user.setId(1L);
+
+            when(clientRepository.findExportRangeByOwnerId(1L)).thenReturn(new ClientExportRange(1L, 10L, 10L));
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(Stream.empty());
 
-            assertThrows(IllegalArgumentException.class, () -> clientFilesService.importCSV(file, user));
-            verify(clientRepository, never()).saveAll(any());
+            try (ClientFilesService parallel =
+                         new ClientFilesService(clientRepository, transactionManager, true, 11, 1, 4, 10, 6)) {
+                parallel.generateCSV(user, new ByteArrayOutputStream());
+            }
+
+            verify(clientRepository, never()).streamExportRowsByOwnerIdAndIdRange(anyLong(), anyLong(), anyLong());
         }
 
         @Test
-        void shouldThrowConstraintViolationWhenDuplicateDataFoundInDatabase() throws IOException {
+        void shouldPropagatePartitionFailures() {
             User user = new User();
             user.setId(1L);
-            String csvContent = "Nome,Email,Telefone,Criado em,Atualizado em\n" +
-                    "Maria,m@m.com,11,2025-01-01,2025-01-01";
 
-            MultipartFile file = mock(MultipartFile.class);
-            when(file.isEmpty()).thenReturn(false);
-            when(file.getInputStream()).thenReturn(
-                    new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+            when(clientRepository.findExportRangeByOwnerId(1L)).thenReturn(new ClientExportRange(1L, 100L, 100L));
+            when(clientRepository.streamExportRowsByOwnerIdAndIdRange(eq(1L), anyLong(), anyLong()))
+                    .thenThrow(new IllegalStateException("conexão perdida"));
 
-            ConstraintViolationException exception =
-                    new ConstraintViolationException("duplicate", new SQLException(), "email_unique");
-            doThrow(exception).when(clientRepository).flush();
+            try (ClientFilesService parallel =
+                         new ClientFilesService(clientRepository, transactionManager, true, 0, 10, 4, 10, 6)) {
+                IllegalStateException e = assertThrows(IllegalStateException.class,
+                        () -> parallel.generateCSV(user, new ByteArrayOutputStream()));
+                assertEquals("conexão perdida", e.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Format Operations")
+    class ExportFormats {
+
+        private final User user = new User();
+
+        @BeforeEach
+        void setUp() {
+            user.setId(1L);
+        }
 
-            ConstraintViolationException thrown = assertThrows(ConstraintViolationException.class,
-                    () -> clientFilesService.importCSV(file, user));
+        @Test
+        void shouldCompressTheSameCsvWithGzip() throws IOException {
+            List<ClientExportRow> clients = List.of(
+                    new ClientExportRow("João Silva", "joao@email.com", "11999999999",
+                            LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0)),
+                    new ClientExportRow("Souza, Pedro", "pedro@email.com", "11888888888",
+                            LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 3, 2, 0, 0)));
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenAnswer(invocation -> clients.stream());
+
+            byte[] csv = export(clientFilesService, user, CSV);
+            byte[] gzip = export(clientFilesService, user, CSV_GZIP);
+
+            assertEquals((byte) 0x1f, gzip[0]);
+            assertEquals((byte) 0x8b, gzip[1]);
+            assertArrayEquals(csv, content(CSV_GZIP, gzip));
+        }
+
+        @Test
+        void shouldWriteOneJsonObjectPerLine() throws IOException {
+            when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(Stream.of(
+                    new ClientExportRow("Ana \"Aninha\" \\ Lima\n", "ana@email.com", "11777777777",
+                            LocalDateTime.of(2025, 1, 1, 10, 30), null),
+                    new ClientExportRow("Zé\u0001😀", null, "11666666666",
+                            LocalDateTime.of(2025, 1, 3, 0, 0), LocalDateTime.of(2025, 1, 4, 0, 0))));
+
+            String ndjson = new String(export(clientFilesService, user, NDJSON), StandardCharsets.UTF_8);
+
+            assertEquals("""
+                    {"name":"Ana \\"Aninha\\" \\\\ Lima\\n","email":"ana@email.com","phone":"11777777777",\
+                    "createdAt":"2025-01-01","updatedAt":null}
+                    {"name":"Zé\\u0001😀","email":null,"phone":"11666666666",\
+                    "createdAt":"2025-01-03","updatedAt":"2025-01-04"}
+                    """, ndjson);
+        }
+
+        @Test
+        void shouldWriteColumnarBlocksThatDecodeToTheSameRows() throws IOException {
+            List<ClientExportRow> clients = new ArrayList<>();
+            int total = ClientColumnarEncoder.BLOCK_ROWS * 2 + 3;
+            for (int i = 0; i < total; i++) {
+                clients.add(new ClientExportRow(i % 100 == 0 ? null : "Cliente " + i + " ç😀",
+                        "cliente" + i + "@email.com", i % 50 == 1 ? null : i % 50 == 2 ? "+55 " + i : "0" + i,
+                        LocalDateTime.of(2025, 1, 1, 0, 0).minusDays(i % 400),
+                        i % 10 == 0 ? null : LocalDateTime.of(2025, 6, 1, 0, 0).plusDays(i % 30)));
+            }
+
+            // Paralelo ligado: o colunar exporta sempre com um cursor só
+            try (ClientFilesService service =
+                         new ClientFilesService(clientRepository, transactionManager, true, 0, 1, 4, 10, 6)) {
+                when(clientRepository.streamExportRowsByOwnerId(1L)).thenReturn(clients.stream());
+
+                assertEquals(clients, decodeColumnar(export(service, user, COLUMNAR)));
+                verify(clientRepository, never()).findExportRangeByOwnerId(anyLong());
+            }
+        }
+    }
+
+    private static byte[] export(ClientFilesService service, User user, ClientExportFormat format)
+            throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.export(user, format, output);
+        return output.toByteArray();
+    }
+
+    private static byte[] content(ClientExportFormat format, byte[] exported) throws IOException {
+        if (format != CSV_GZIP) return exported;
+
+        try (InputStream input = new GZIPInputStream(new ByteArrayInputStream(exported))) {
+            return input.readAllBytes();
+        }
+    }
+
+    // Leitor de referência do formato descrito em ClientColumnarEncoder
+    private static List<ClientExportRow> decodeColumnar(byte[] data) throws IOException {
+        InputStream input = new ByteArrayInputStream(data);
+
+        assertArrayEquals("CLCOL".getBytes(StandardCharsets.US_ASCII), input.readNBytes(5));
+        assertEquals(1, varint(input));
+
+        List<String> columns = new ArrayList<>();
+        for (long i = varint(input); i > 0; i--) columns.add(text(input));
+        assertEquals(ClientImportService.COLUMNS, columns);
+
+        List<ClientExportRow> rows = new ArrayList<>();
+        for (int count = (int) varint(input); count > 0; count = (int) varint(input)) {
+            String[][] texts = new String[3][count];
+            LocalDateTime[][] dates = new LocalDateTime[2][count];
+
+            for (int i = 0; i < count; i++) texts[0][i] = text(input);
+            for (int i = 0; i < count; i++) texts[1][i] = text(input);
+            for (int i = 0; i < count; i++) texts[2][i] = phone(input);
+            for (LocalDateTime[] column : dates) {
+                long day = 0;
+                for (int i = 0; i < count; i++) {
+                    long value = varint(input);
+                    if (value == 0) continue;
+                    long zigzag = value - 1;
+                    day += (zigzag >>> 1) ^ -(zigzag & 1);
+                    column[i] = LocalDate.ofEpochDay(day).atStartOfDay();
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                rows.add(new ClientExportRow(texts[0][i], texts[1][i], texts[2][i], dates[0][i], dates[1][i]));
+            }
+        }
+
+        assertEquals(-1, input.read());
+        return rows;
+    }
+
+    private static String text(InputStream input) throws IOException {
+        long length = varint(input);
+        if (length == 0) return null;
+        return new String(input.readNBytes((int) length - 1), StandardCharsets.UTF_8);
+    }
+
+    private static String phone(InputStream input) throws IOException {
+        long header = varint(input);
+        if (header == 0) return null;
+        if ((header & 1) == 0) return new String(input.readNBytes((int) (header >> 1) - 1), StandardCharsets.UTF_8);
+
+        String digits = Long.toString(varint(input));
+        return "0".repeat((int) (header >> 1) - digits.length()) + digits;
+    }
 
-            assertTrue(thrown.getMessage().contains("Campos únicos duplicados"));
-            verify(clientRepository).saveAll(any());
-            verify(clientRepository).flush();
+    private static long varint(InputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = input.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.service.ClientImportDuplicates.Kind;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientImportDuplicatesTest {
+
+    @Nested
+    @DisplayName("Exact Operations")
+    class ExactOperations {
+
+        @Test
+        void shouldFindExistingClientByEmailOrPhone() {
+            ClientImportDuplicates duplicates = ClientImportDuplicates.exact(1);
+            duplicates.addExisting(new ClientSearchRow(10L, "Maria", "maria@email.com", "11888888888"));
+
+            assertEquals(10L, duplicates.check(2, "maria@email.com", "11777777777").clientId());
+            assertEquals(Kind.EXISTING, duplicates.check(3, "ana@email.com", "11888888888").kind());
+            assertEquals(Kind.NEW, duplicates.check(4, "pedro@email.com", "11666666666").kind());
+        }
+
+        @Test
+        void shouldRejectEmailAndPhoneFromDifferentClients() {
+            ClientImportDuplicates duplicates = ClientImportDuplicates.exact(2);
+            duplicates.addExisting(new ClientSearchRow(10L, "Maria", "maria@email.com", "11888888888"));
+            duplicates.addExisting(new ClientSearchRow(11L, "Ana", "ana@email.com", "11777777777"));
+
+            assertEquals(Kind.REJECTED, duplicates.check(2, "maria@email.com", "11777777777").kind());
+        }
+
+        @Test
+        void shouldAllowEachClientToBeClaimedOnce() {
+            ClientImportDuplicates duplicates = ClientImportDuplicates.exact(0);
+
+            assertEquals(LongLongMap.MISSING, duplicates.claim(10L, 2));
+            assertEquals(2, duplicates.claim(10L, 5));
+        }
+
+        @Test
+        void shouldKeepEveryKeyWhenMapGrows() {
+            LongLongMap map = new LongLongMap(1);
+            for (long key = 1; key <= 10_000; key++) map.put(key, key * 2);
+
+            assertEquals(10_000, map.size());
+            for (long key = 1; key <= 10_000; key++) assertEquals(key * 2, map.get(key));
+            assertEquals(LongLongMap.MISSING, map.get(10_001));
+        }
+    }
+
+    @Nested
+    @DisplayName("Key Operations")
+    class KeyOperations {
+
+        @Test
+        void shouldNotConfusePhonesWithLeadingZero() {
+            assertNotEquals(ClientImportDuplicates.phoneKey("1188888888"),
+                    ClientImportDuplicates.phoneKey("01188888888"));
+            assertEquals(0, ClientImportDuplicates.phoneKey("11-8888-8888"));
+        }
+
+        @Test
+        void shouldNeverAnswerNoForKeysAddedToBloomFilter() {
+            BloomFilter filter = new BloomFilter(1000, 0.01);
+            for (long key = 1; key <= 1000; key++) filter.add(key);
+
+            for (long key = 1; key <= 1000; key++) assertTrue(filter.mightContain(key));
+
+            int falsePositives = 0;
+            for (long key = 1001; key <= 11_000; key++) if (filter.mightContain(key)) falsePositives++;
+            assertTrue(falsePositives < 300);
+        }
+    }
+}
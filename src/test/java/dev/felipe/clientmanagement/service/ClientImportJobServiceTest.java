@@ -0,0 +1,210 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientImportJobDTO;
+import dev.felipe.clientmanagement.dto.client.ClientImportPolicy;
+import dev.felipe.clientmanagement.exception.domain.ImportJobNotFoundException;
+import dev.felipe.clientmanagement.exception.domain.TooManyImportJobsException;
+import dev.felipe.clientmanagement.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientImportJobServiceTest {
+
+    @Mock
+    private ClientImportService clientImportService;
+
+    private ClientImportJobService jobService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofMegabytes(1),
+                Path.of(System.getProperty("java.io.tmpdir")));
+        jobService = new ClientImportJobService(clientImportService, spooler, 2, 4, 1,
+                Duration.ofMinutes(5), Duration.ofMillis(50), 10);
+        user = user(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.close();
+    }
+
+    @Nested
+    @DisplayName("Job Operations")
+    class JobOperations {
+
+        @Test
+        void shouldRunImportInBackgroundAndReportProgress() throws Exception {
+            doAnswer(invocation -> {
+                ClientImportProgress progress = invocation.getArgument(3);
+                progress.rowRead();
+                progress.rowRead();
+                progress.imported(1);
+                progress.rejected(3, "Data inválida, use o formato yyyy-MM-dd.");
+                return null;
+            }).when(clientImportService).importCSV(any(ClientImportSource.class), eq(user), any(), any());
+
+            ClientImportJobDTO submitted = jobService.submit(file(), user, ClientImportPolicy.SKIP);
+            ClientImportJobDTO finished = awaitFinished(submitted.id(), user);
+
+            assertEquals("COMPLETED", finished.status());
+            assertEquals(2, finished.rowsRead());
+            assertEquals(1, finished.imported());
+            assertEquals(1, finished.rejected());
+            assertEquals(3, finished.errors().getFirst().line());
+        }
+
+        @Test
+        void shouldMarkJobAsFailedAndReleaseSlot() throws Exception {
+            doThrow(new IllegalArgumentException("Colunas obrigatórias ausentes: Nome"))
+                    .doNothing()
+                    .when(clientImportService).importCSV(any(ClientImportSource.class), eq(user), any(), any());
+
+            String jobId = jobService.submit(file(), user, ClientImportPolicy.SKIP).id();
+            ClientImportJobDTO failed = awaitFinished(jobId, user);
+
+            assertEquals("FAILED", failed.status());
+            assertEquals("Colunas obrigatórias ausentes: Nome", failed.message());
+            assertDoesNotThrow(() -> jobService.submit(file(), user, ClientImportPolicy.SKIP));
+        }
+
+        @Test
+        void shouldCancelRunningJob() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                ClientImportProgress progress = invocation.getArgument(3);
+                started.countDown();
+                while (!progress.isCancelled()) {
+                    progress.rowRead();
+                    Thread.sleep(1);
+                }
+                return null;
+            }).when(clientImportService).importCSV(any(ClientImportSource.class), eq(user), any(), any());
+
+            String jobId = jobService.submit(file(), user, ClientImportPolicy.SKIP).id();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            jobService.cancel(jobId, user);
+
+            assertEquals("CANCELLED", awaitFinished(jobId, user).status());
+        }
+
+        // A retenção vale a partir do fim: um job mais longo que ela continua consultável e cancelável
+        @Test
+        void shouldKeepRunningJobBeyondRetentionAndExpireItAfterFinishing() throws Exception {
+            jobService.close();
+            jobService = new ClientImportJobService(clientImportService, new ClientImportSpooler(
+                    DataSize.ofMegabytes(1), Path.of(System.getProperty("java.io.tmpdir"))), 2, 4, 1,
+                    Duration.ofMillis(100), Duration.ofMillis(50), 10);
+
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(clientImportService).importCSV(any(ClientImportSource.class), eq(user), any(), any());
+
+            String jobId = jobService.submit(file(), user, ClientImportPolicy.SKIP).id();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+
+            assertEquals("RUNNING", jobService.status(jobId, user).status());
+
+            release.countDown();
+            assertEquals("COMPLETED", awaitFinished(jobId, user).status());
+            Thread.sleep(300);
+
+            assertThrows(ImportJobNotFoundException.class, () -> jobService.status(jobId, user));
+        }
+
+        @Test
+        void shouldHideJobsFromOtherUsers() throws Exception {
+            String jobId = jobService.submit(file(), user, ClientImportPolicy.SKIP).id();
+
+            assertThrows(ImportJobNotFoundException.class, () -> jobService.status(jobId, user(2L)));
+            assertThrows(ImportJobNotFoundException.class, () -> jobService.cancel(jobId, user(2L)));
+            assertThrows(ImportJobNotFoundException.class, () -> jobService.status("missing", user));
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit Operations")
+    class LimitOperations {
+
+        @Test
+        void shouldCapConcurrentJobsPerUser() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(clientImportService).importCSV(any(ClientImportSource.class), any(User.class), any(), any());
+
+            String jobId = jobService.submit(file(), user, ClientImportPolicy.SKIP).id();
+
+            assertThrows(TooManyImportJobsException.class,
+                    () -> jobService.submit(file(), user, ClientImportPolicy.SKIP));
+            assertDoesNotThrow(() -> jobService.submit(file(), user(2L), ClientImportPolicy.SKIP));
+
+            release.countDown();
+            awaitFinished(jobId, user);
+            assertDoesNotThrow(() -> jobService.submit(file(), user, ClientImportPolicy.SKIP));
+        }
+
+        @Test
+        void shouldRejectEmptyUpload() {
+            MultipartFile file = mock(MultipartFile.class);
+            when(file.isEmpty()).thenReturn(true);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> jobService.submit(file, user, ClientImportPolicy.SKIP));
+            verifyNoInteractions(clientImportService);
+        }
+    }
+
+    private ClientImportJobDTO awaitFinished(String jobId, User owner) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (System.nanoTime() < deadline) {
+            ClientImportJobDTO job = jobService.status(jobId, owner);
+            if (ClientImportJob.Status.valueOf(job.status()).isFinished()) return job;
+            Thread.sleep(10);
+        }
+        return fail("Importação não terminou a tempo.");
+    }
+
+    // Nem todo teste chega a copiar o upload (limite atingido antes)
+    private static MultipartFile file() throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        lenient().when(file.getInputStream()).thenAnswer(invocation ->
+                new ByteArrayInputStream("Nome,Email,Telefone,Criado em,Atualizado em\n".getBytes()));
+        return file;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
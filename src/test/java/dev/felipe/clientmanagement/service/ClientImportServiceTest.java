@@ -0,0 +1,462 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientImportPolicy;
+import dev.felipe.clientmanagement.dto.client.ClientImportResult;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
+import dev.felipe.clientmanagement.model.Client;
+import dev.felipe.clientmanagement.model.User;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientImportServiceTest {
+
+    private static final String HEADER = "Nome,Email,Telefone,Criado em,Atualizado em\n";
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    private static final ClientCsvByteParser COMMONS_CSV =
+            new ClientCsvByteParser(false, 1, DataSize.ofMegabytes(4), DataSize.ofBytes(Long.MAX_VALUE));
+    private static final ClientImportSpooler SPOOLER =
+            new ClientImportSpooler(DataSize.ofMegabytes(16), Path.of(System.getProperty("java.io.tmpdir")));
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ClientCountService clientCountService;
+
+    @Mock
+    private ClientSearchIndex clientSearchIndex;
+
+    @Mock
+    private ClientDataVersions clientDataVersions;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClientImportService clientImportService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clientImportService = new ClientImportService(clientRepository, clientCountService, clientSearchIndex,
+                clientDataVersions, VALIDATOR, COMMONS_CSV, SPOOLER, transactionManager, 2, 3, 1000, 0.01);
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Nested
+    @DisplayName("CSV Import Operations")
+    class CSVImport {
+
+        @Test
+        void shouldImportAndSaveClientsSuccessfully() throws IOException {
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER +
+                    "Maria Silva,MARIA@EMAIL.COM,11888888888,2025-01-01,2025-01-02\n"), user, ClientImportPolicy.SKIP);
+
+            assertEquals(1, result.rowsRead());
+            assertEquals(1, result.imported());
+            assertEquals(0, result.rejected());
+
+            Client client = saved.getFirst();
+            assertEquals("Maria Silva", client.getName());
+            assertEquals("maria@email.com", client.getEmail());
+            assertEquals(1L, client.getOwner().getId());
+            verify(clientRepository).flush();
+            verify(clientCountService).add(1L, 1);
+            verify(clientSearchIndex).invalidate(1L);
+            verify(clientDataVersions).bump(1L);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenFileIsEmpty() {
+            MultipartFile file = mock(MultipartFile.class);
+            when(file.isEmpty()).thenReturn(true);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> clientImportService.importCSV(file, user, ClientImportPolicy.SKIP));
+            verify(clientRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void shouldRejectFileWithoutRequiredColumns() {
+            assertThrows(IllegalArgumentException.class, () -> clientImportService.importCSV(
+                    file("Nome,Email\nMaria,m@m.com\n"), user, ClientImportPolicy.SKIP));
+            verify(clientRepository, never()).saveAll(any());
+        }
+
+        @Test
+        void shouldReportInvalidRowsAndImportTheRest() throws IOException {
+            recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER +
+                    "Maria Silva,maria@email.com,11888888888,2025-01-01,2025-01-02\n" +
+                    "Jo,not-an-email,abc,2025-01-01,2025-01-02\n" +
+                    "Pedro Souza,pedro@email.com,11777777777,01/01/2025,2025-01-02\n" +
+                    "Ana Lima,ana@email.com,11666666666,2025-01-01\n"), user, ClientImportPolicy.SKIP);
+
+            assertEquals(4, result.rowsRead());
+            assertEquals(1, result.imported());
+            assertEquals(3, result.rejected());
+            assertEquals(3, result.errors().get(0).line());
+            assertTrue(result.errors().get(0).message().contains("email"));
+            assertTrue(result.errors().get(1).message().contains("Data inválida"));
+            assertEquals(5, result.errors().get(2).line());
+        }
+    }
+
+    @Nested
+    @DisplayName("Chunk Operations")
+    class ChunkOperations {
+
+        @Test
+        void shouldPersistInChunksOfConfiguredSize() throws IOException {
+            List<Integer> chunkSizes = new ArrayList<>();
+            when(clientRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+                chunkSizes.add(invocation.<Collection<Client>>getArgument(0).size());
+                return List.of();
+            });
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 5)),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(List.of(2, 2, 1), chunkSizes);
+            assertEquals(5, result.imported());
+            verify(transactionManager, times(3)).commit(any());
+            verify(clientCountService, times(2)).add(1L, 2);
+            verify(clientCountService).add(1L, 1);
+        }
+
+        @Test
+        void shouldRejectOnlyTheFailingChunk() throws IOException {
+            AtomicInteger calls = new AtomicInteger();
+            when(clientRepository.saveAll(anyCollection())).thenReturn(List.of());
+            doAnswer(invocation -> {
+                if (calls.incrementAndGet() == 2) {
+                    throw new DataIntegrityViolationException("duplicate", new ConstraintViolationException(
+                            "duplicate", new SQLException(), ClientConstraintTranslator.EMAIL_CONSTRAINT));
+                }
+                return null;
+            }).when(clientRepository).flush();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 5)),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(3, result.imported());
+            assertEquals(2, result.rejected());
+            assertEquals(List.of(4L, 5L), result.errors().stream().map(error -> error.line()).toList());
+            assertTrue(result.errors().getFirst().message().contains("email"));
+            verify(transactionManager).rollback(any());
+        }
+
+        @Test
+        void shouldKeepErrorListBounded() throws IOException {
+            StringBuilder csv = new StringBuilder(HEADER);
+            for (int i = 0; i < 10; i++) csv.append("x,invalid,1,2025-01-01,2025-01-01\n");
+
+            ClientImportResult result = clientImportService.importCSV(file(csv.toString()),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(10, result.rejected());
+            assertEquals(3, result.errors().size());
+            assertTrue(result.errorsTruncated());
+            verify(clientSearchIndex, never()).invalidate(anyLong());
+            verify(clientDataVersions, never()).bump(anyLong());
+        }
+
+        @Test
+        void shouldNotHoldMoreThanOneChunkForLargeFiles() throws IOException {
+            int rows = 20_000;
+            AtomicInteger largestChunk = new AtomicInteger();
+            when(clientRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+                largestChunk.accumulateAndGet(invocation.<Collection<Client>>getArgument(0).size(), Math::max);
+                return List.of();
+            });
+
+            ClientImportProgress progress = new ClientImportProgress(3);
+            clientImportService.importCSV(() -> generated(rows), user, ClientImportPolicy.SKIP, progress);
+
+            assertEquals(rows, progress.imported());
+            assertEquals(2, largestChunk.get());
+        }
+
+        @Test
+        void shouldImportWithParallelByteParser() throws IOException {
+            List<Client> saved = recordSavedClients();
+            try (ClientCsvByteParser parser =
+                         new ClientCsvByteParser(true, 4, DataSize.ofBytes(64), DataSize.ofMegabytes(8))) {
+                clientImportService = new ClientImportService(clientRepository, clientCountService, clientSearchIndex,
+                        clientDataVersions, VALIDATOR, parser, SPOOLER, transactionManager, 2, 3, 1000, 0.01);
+
+                ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 50) +
+                        "Jo,not-an-email,abc,2025-01-01,2025-01-02\n"), user, ClientImportPolicy.SKIP);
+
+                assertEquals(51, result.rowsRead());
+                assertEquals(50, result.imported());
+                assertEquals(52, result.errors().getFirst().line());
+                assertEquals(rows(0, 50).lines().map(line -> line.split(",")[0]).toList(),
+                        saved.stream().map(Client::getName).toList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Duplicate Operations")
+    class DuplicateOperations {
+
+        private static final String MARIA = "Maria Silva,maria@email.com,11888888888,2025-01-01,2025-01-02\n";
+
+        @Test
+        void shouldRejectRowsRepeatedInTheFile() throws IOException {
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA +
+                    "Maria Souza,MARIA@email.com,11777777777,2025-01-01,2025-01-02\n" +
+                    "Ana Lima,ana@email.com,11888888888,2025-01-01,2025-01-02\n"), user, ClientImportPolicy.SKIP);
+
+            assertEquals(1, result.imported());
+            assertEquals(2, result.rejected());
+            assertEquals("Email repetido no arquivo (linha 2).", result.errors().get(0).message());
+            assertEquals("Telefone repetido no arquivo (linha 2).", result.errors().get(1).message());
+            assertEquals("Maria Silva", saved.getFirst().getName());
+        }
+
+        @Test
+        void shouldSkipRowsThatAlreadyExistForTheOwner() throws IOException {
+            existing(new ClientSearchRow(10L, "Maria", "maria@email.com", "11999999999"));
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA + rows(0, 1)),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(1, result.imported());
+            assertEquals(1, result.rejected());
+            assertEquals(2, result.errors().getFirst().line());
+            assertEquals("Esse email já existe em outro cliente.", result.errors().getFirst().message());
+            assertEquals("cliente0@email.com", saved.getFirst().getEmail());
+        }
+
+        @Test
+        void shouldNotWriteAnythingWhenPolicyIsFail() throws IOException {
+            existing(new ClientSearchRow(10L, "Maria", "maria@email.com", "11999999999"));
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 3) + MARIA),
+                    user, ClientImportPolicy.FAIL);
+
+            assertEquals(4, result.rowsRead());
+            assertEquals(0, result.imported());
+            assertEquals(1, result.rejected());
+            verify(clientRepository, never()).saveAll(any());
+            verify(clientSearchIndex, never()).invalidate(anyLong());
+        }
+
+        // As constraints únicas são globais: só a linha em conflito sai, o resto do bloco é gravado
+        @Test
+        void shouldRejectOnlyRowsTakenByAnotherOwner() throws IOException {
+            when(clientRepository.findForeignEmailsIn(eq(1L), anyCollection()))
+                    .thenReturn(List.of("cliente1@email.com"));
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 3)),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(2, result.imported());
+            assertEquals(1, result.rejected());
+            assertEquals(3, result.errors().getFirst().line());
+            assertEquals("Esse email já existe em outro cliente.", result.errors().getFirst().message());
+            assertEquals(List.of("cliente0@email.com", "cliente2@email.com"),
+                    saved.stream().map(Client::getEmail).toList());
+        }
+
+        @Test
+        void shouldNotWriteAnythingWhenAnotherOwnerHoldsAPhoneAndPolicyIsFail() throws IOException {
+            when(clientRepository.findForeignPhonesIn(eq(1L), anyCollection()))
+                    .thenReturn(List.of("11900000002"));
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 3)),
+                    user, ClientImportPolicy.FAIL);
+
+            assertEquals(0, result.imported());
+            assertEquals(1, result.rejected());
+            assertEquals("Esse telefone já existe em outro cliente.", result.errors().getFirst().message());
+            verify(clientRepository, never()).saveAll(any());
+            verify(clientRepository, never()).flush();
+        }
+
+        // Sem \n no fim o commons-csv dá ao último registro o número de linha do penúltimo
+        @Test
+        void shouldImportLastRowWhenFileHasNoTrailingNewline() throws IOException {
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + rows(0, 1) +
+                    "Jo,not-an-email,abc,2025-01-01,2025-01-02\n" +
+                    "Ana Lima,ana@email.com,11666666666,2025-01-01,2025-01-02"), user, ClientImportPolicy.SKIP);
+
+            assertEquals(3, result.rowsRead());
+            assertEquals(2, result.imported());
+            assertEquals(1, result.rejected());
+            assertEquals(List.of("cliente0@email.com", "ana@email.com"),
+                    saved.stream().map(Client::getEmail).toList());
+        }
+
+        @Test
+        void shouldUpdateExistingClientOnlyOnce() throws IOException {
+            existing(new ClientSearchRow(10L, "Maria", "maria@email.com", "11999999999"));
+            Client client = new Client();
+            client.setId(10L);
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of(client));
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA +
+                    "Maria Souza,ana@email.com,11999999999,2025-01-01,2025-01-02\n"),
+                    user, ClientImportPolicy.UPSERT);
+
+            assertEquals(0, result.imported());
+            assertEquals(1, result.updated());
+            assertEquals("Cliente já atualizado pela linha 2.", result.errors().getFirst().message());
+            assertEquals("Maria Silva", client.getName());
+            assertEquals("11888888888", client.getPhone());
+            verify(clientRepository, never()).saveAll(any());
+            verify(clientCountService, never()).add(anyLong(), anyLong());
+        }
+
+        @Test
+        void shouldLeaveUnchangedClientsUntouched() throws IOException {
+            existing(new ClientSearchRow(10L, "Maria Silva", "maria@email.com", "11888888888"));
+            Client client = new Client();
+            client.setId(10L);
+            client.setName("Maria Silva");
+            client.setEmail("maria@email.com");
+            client.setPhone("11888888888");
+            LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 1, 0, 0);
+            client.setUpdatedAt(updatedAt);
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of(client));
+            recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA + rows(0, 1)),
+                    user, ClientImportPolicy.UPSERT);
+
+            assertEquals(1, result.imported());
+            assertEquals(0, result.updated());
+            assertEquals(1, result.unchanged());
+            assertEquals(updatedAt, client.getUpdatedAt());
+        }
+
+        @Test
+        void shouldInsertUpsertTargetDeletedAfterPreflight() throws IOException {
+            existing(new ClientSearchRow(10L, "Maria", "maria@email.com", "11999999999"));
+            when(clientRepository.findAllByOwner_IdAndIdIn(eq(1L), anyCollection())).thenReturn(List.of());
+            List<Client> saved = recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA),
+                    user, ClientImportPolicy.UPSERT);
+
+            assertEquals(1, result.imported());
+            assertEquals(0, result.updated());
+            assertEquals("Maria Silva", saved.getFirst().getName());
+            verify(clientCountService).add(1L, 1);
+        }
+
+        @Test
+        void shouldConfirmBloomFilterHitsInTheDatabase() throws IOException {
+            clientImportService = new ClientImportService(clientRepository, clientCountService, clientSearchIndex,
+                    clientDataVersions, VALIDATOR, COMMONS_CSV, SPOOLER, transactionManager, 2, 3, 0, 0.01);
+            ClientSearchRow maria = new ClientSearchRow(10L, "Maria", "maria@email.com", "11999999999");
+            existing(maria);
+            when(clientRepository.findOwnerRowsByEmailIn(eq(1L), anyCollection())).thenReturn(List.of(maria));
+            when(clientRepository.findOwnerRowsByPhoneIn(eq(1L), anyCollection())).thenReturn(List.of());
+            recordSavedClients();
+
+            ClientImportResult result = clientImportService.importCSV(file(HEADER + MARIA + rows(0, 1)),
+                    user, ClientImportPolicy.SKIP);
+
+            assertEquals(1, result.imported());
+            assertEquals(1, result.rejected());
+            assertEquals("Esse email já existe em outro cliente.", result.errors().getFirst().message());
+        }
+    }
+
+    private void existing(ClientSearchRow... rows) {
+        when(clientRepository.countByOwner_Id(1L)).thenReturn((long) rows.length);
+        when(clientRepository.streamSearchRowsByOwnerId(1L)).thenAnswer(invocation -> Stream.of(rows));
+    }
+
+    private List<Client> recordSavedClients() {
+        List<Client> saved = new ArrayList<>();
+        when(clientRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return List.of();
+        });
+        return saved;
+    }
+
+    private static MultipartFile file(String content) throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        // Lido duas vezes: checagem de duplicados e gravação
+        when(file.getInputStream()).thenAnswer(invocation ->
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return file;
+    }
+
+    private static String rows(int from, int to) {
+        StringBuilder csv = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            csv.append("Cliente ").append(i).append(",cliente").append(i).append("@email.com,")
+                    .append(String.format("119%08d", i)).append(",2025-01-01,2025-01-02\n");
+        }
+        return csv.toString();
+    }
+
+    // Gera o CSV sob demanda, sem materializar o arquivo inteiro em memória
+    private static InputStream generated(int rows) {
+        Enumeration<InputStream> parts = new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                String content = next < 0 ? HEADER : rows(next, next + 1);
+                next++;
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(parts);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.exception.domain.ImportFileTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ClientImportSpoolerTest {
+
+    private static final String CSV = "Nome,Email,Telefone,Criado em,Atualizado em\n" +
+            "Maria Silva,maria@email.com,11888888888,2025-01-01,2025-01-02\n";
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Spool Operations")
+    class SpoolOperations {
+
+        @Test
+        void shouldCopyPlainUploadToDisk() throws IOException {
+            ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofKilobytes(1), directory);
+
+            Path spooled = spooler.spool(file(CSV.getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(CSV, Files.readString(spooled));
+            assertEquals(directory, spooled.getParent());
+        }
+
+        @Test
+        void shouldDecompressGzipUpload() throws IOException {
+            ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofKilobytes(1), directory);
+
+            Path spooled = spooler.spool(file(gzip(CSV.getBytes(StandardCharsets.UTF_8))));
+
+            assertEquals(CSV, Files.readString(spooled));
+        }
+
+        @Test
+        void shouldLimitDecompressedSizeAndDeleteSpooledFile() throws IOException {
+            ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofKilobytes(64), directory);
+            byte[] content = new byte[1024 * 1024];
+            Arrays.fill(content, (byte) 'a');
+
+            // 1MB de "a" comprime para poucos KB
+            MultipartFile bomb = file(gzip(content));
+
+            assertThrows(ImportFileTooLargeException.class, () -> spooler.spool(bomb));
+            try (var files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        }
+
+        @Test
+        void shouldRejectCorruptedGzip() throws IOException {
+            ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofKilobytes(1), directory);
+            byte[] gzip = gzip(CSV.getBytes(StandardCharsets.UTF_8));
+
+            MultipartFile truncated = file(Arrays.copyOf(gzip, gzip.length / 2));
+
+            assertThrows(IllegalArgumentException.class, () -> spooler.spool(truncated));
+        }
+
+        @Test
+        void shouldRejectEmptyUpload() {
+            ClientImportSpooler spooler = new ClientImportSpooler(DataSize.ofKilobytes(1), directory);
+            MultipartFile file = mock(MultipartFile.class);
+            when(file.isEmpty()).thenReturn(true);
+
+            assertThrows(IllegalArgumentException.class, () -> spooler.spool(file));
+        }
+    }
+
+    private static MultipartFile file(byte[] content) throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(content));
+        return file;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.repository.ClientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientSearchIndexTest {
+
+    private static final ClientSearchRow MARIA =
+            new ClientSearchRow(1L, "Maria Silva", "maria@email.com", "11988887777");
+    private static final ClientSearchRow ANA =
+            new ClientSearchRow(2L, "Ana Maria", "ana@corp.com", "31966665555");
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClientSearchIndex clientSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        clientSearchIndex = new ClientSearchIndex(clientRepository, transactionManager,
+                true, 10, Duration.ofMinutes(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Operations")
+    class WriteOperations {
+
+        @Test
+        void shouldApplyWriteOnlyAfterCommit() {
+            when(clientRepository.streamSearchRowsByOwnerId(1L)).thenReturn(Stream.of(MARIA));
+            assertArrayEquals(new long[]{1L}, clientSearchIndex.search(1L, "maria"));
+
+            TransactionSynchronizationManager.initSynchronization();
+            clientSearchIndex.onSaved(1L, ANA);
+
+            assertArrayEquals(new long[]{1L}, clientSearchIndex.search(1L, "maria"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertArrayEquals(new long[]{1L, 2L}, clientSearchIndex.search(1L, "maria"));
+            verify(clientRepository, times(1)).streamSearchRowsByOwnerId(1L);
+        }
+
+        // A escrita chega durante a leitura: antes ela esperava a construção no lock do cache
+        @Test
+        void shouldDiscardIndexWhenWriteArrivesWhileBuilding() {
+            when(clientRepository.streamSearchRowsByOwnerId(1L))
+                    .thenAnswer(invocation -> {
+                        clientSearchIndex.onSaved(1L, ANA);
+                        return Stream.of(MARIA);
+                    })
+                    .thenReturn(Stream.of(MARIA, ANA));
+
+            assertNull(clientSearchIndex.search(1L, "maria"));
+            assertArrayEquals(new long[]{1L, 2L}, clientSearchIndex.search(1L, "maria"));
+            verify(clientRepository, times(2)).streamSearchRowsByOwnerId(1L);
+        }
+
+        @Test
+        void shouldRebuildAfterInvalidate() {
+            when(clientRepository.streamSearchRowsByOwnerId(1L))
+                    .thenReturn(Stream.of(MARIA))
+                    .thenReturn(Stream.of(MARIA, ANA));
+
+            assertArrayEquals(new long[]{1L}, clientSearchIndex.search(1L, "maria"));
+            clientSearchIndex.invalidate(1L);
+
+            assertArrayEquals(new long[]{1L, 2L}, clientSearchIndex.search(1L, "maria"));
+        }
+    }
+}
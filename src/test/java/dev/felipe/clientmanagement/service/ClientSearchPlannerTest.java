@@ -0,0 +1,88 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.service.ClientSearchPlanner.SearchPlan;
+import dev.felipe.clientmanagement.service.ClientSearchPlanner.SearchShape;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientSearchPlannerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClientSearchPlanner planner = new ClientSearchPlanner(meterRegistry);
+
+    @Nested
+    @DisplayName("Classification Operations")
+    class ClassificationOperations {
+
+        @Test
+        void shouldClassifyPartialDigitsAsPhoneContains() {
+            assertEquals(SearchShape.PHONE, planner.plan("119876").shape());
+        }
+
+        @Test
+        void shouldClassifyFullPhoneAsPrefix() {
+            assertEquals(SearchShape.PHONE_PREFIX, planner.plan("11987654321").shape());
+        }
+
+        // Os últimos 10 dígitos de um telefone de 11 casam a partir da posição 1, não pelo início
+        @Test
+        void shouldKeepTenDigitTermsAsPhoneContains() {
+            assertEquals(SearchShape.PHONE, planner.plan("1987654321").shape());
+            assertEquals(SearchShape.PHONE, planner.plan("1198765432").shape());
+        }
+
+        @Test
+        void shouldClassifyCompleteEmailAsEmailAndLowercaseIt() {
+            SearchPlan plan = planner.plan(" Maria@Email.COM ");
+
+            assertEquals(SearchShape.EMAIL, plan.shape());
+            assertEquals("maria@email.com", plan.term());
+        }
+
+        // Um endereço ainda sendo digitado tem forma de email completo, mas precisa continuar casando
+        @Test
+        void shouldClassifyPartlyTypedAddressAsEmail() {
+            SearchPlan plan = planner.plan("ana@gmail.co");
+
+            assertEquals(SearchShape.EMAIL, plan.shape());
+            assertEquals("ana@gmail.co", plan.term());
+        }
+
+        @Test
+        void shouldClassifyPartialEmailAndDomainsAsEmail() {
+            assertEquals(SearchShape.EMAIL, planner.plan("maria@").shape());
+            assertEquals(SearchShape.EMAIL, planner.plan("@gmail").shape());
+            assertEquals(SearchShape.EMAIL, planner.plan("gmail.com").shape());
+        }
+
+        @Test
+        void shouldFoldAccentsForNameSearch() {
+            SearchPlan plan = planner.plan("Conceição");
+
+            assertEquals(SearchShape.NAME, plan.shape());
+            assertEquals("conceicao", plan.term());
+        }
+
+        @Test
+        void shouldClassifyEverythingElseAsName() {
+            assertEquals(SearchShape.NAME, planner.plan("Ana Maria").shape());
+            assertEquals(SearchShape.NAME, planner.plan("Jr.").shape());
+        }
+    }
+
+    @Nested
+    @DisplayName("Metrics Operations")
+    class MetricsOperations {
+
+        @Test
+        void shouldRecordLatencyPerShape() {
+            planner.record(SearchShape.PHONE, () -> "result");
+
+            assertEquals(1, meterRegistry.get("clients.search").tag("shape", "phone").timer().count());
+            assertEquals(0, meterRegistry.get("clients.search").tag("shape", "name").timer().count());
+        }
+    }
+}
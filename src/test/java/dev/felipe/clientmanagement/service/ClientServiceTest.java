@@ -1,24 +1,49 @@
 package dev.felipe.clientmanagement.service;
 
+import dev.felipe.clientmanagement.dto.client.ClientCursor;
+import dev.felipe.clientmanagement.dto.client.ClientCursorPage;
 import dev.felipe.clientmanagement.dto.client.ClientDTO;
+import dev.felipe.clientmanagement.dto.client.ClientOffsetPage;
+import dev.felipe.clientmanagement.dto.client.ClientResponseItemsDTO;
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import dev.felipe.clientmanagement.dto.client.ClientSort;
+import dev.felipe.clientmanagement.exception.ClientConstraintTranslator;
 import dev.felipe.clientmanagement.exception.domain.*;
 import dev.felipe.clientmanagement.model.Client;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.ClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -29,7 +54,18 @@ class ClientServiceTest {
     @Mock
     private ClientRepository clientRepository;
 
-    @InjectMocks
+    @Mock
+    private ClientCountService clientCountService;
+
+    @Mock
+    private ClientSearchIndex clientSearchIndex;
+
+    @Mock
+    private ClientDataVersions clientDataVersions;
+
+    @Spy
+    private ClientSearchPlanner clientSearchPlanner = new ClientSearchPlanner(new SimpleMeterRegistry());
+
     private ClientService clientService;
 
     @Captor
@@ -38,6 +74,12 @@ class ClientServiceTest {
     @Captor
     private ArgumentCaptor<PageRequest> pageRequestCaptor;
 
+    @BeforeEach
+    void setUp() {
+        clientService = new ClientService(clientRepository, clientCountService, clientSearchIndex,
+                clientSearchPlanner, clientDataVersions, false);
+    }
+
     @Nested
     @DisplayName("Save Operations")
     class SaveOperations {
@@ -50,18 +92,19 @@ class ClientServiceTest {
                     "LINUS.TORVALDS@EMAIL.COM",
                     "1234567890");
 
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(false);
+            when(clientRepository.existsClientByEmail("linus.torvalds@email.com")).thenReturn(false);
             when(clientRepository.existsClientByPhone(dto.phone())).thenReturn(false);
 
             clientService.saveClient(dto, user);
 
-            verify(clientRepository).save(clientCaptor.capture());
+            verify(clientRepository).saveAndFlush(clientCaptor.capture());
             Client capturedClient = clientCaptor.getValue();
 
             assertEquals("linus.torvalds@email.com", capturedClient.getEmail());
             assertEquals(dto.name(), capturedClient.getName());
             assertEquals(dto.phone(), capturedClient.getPhone());
             assertEquals(user, capturedClient.getOwner());
+            verify(clientCountService).add(1L, 1);
         }
 
         @Test
@@ -75,7 +118,7 @@ class ClientServiceTest {
                     () -> clientService.saveClient(dto, user));
 
             verify(clientRepository, never()).existsClientByPhone(anyString());
-            verify(clientRepository, never()).save(any(Client.class));
+            verify(clientRepository, never()).saveAndFlush(any(Client.class));
         }
 
         @Test
@@ -89,7 +132,119 @@ class ClientServiceTest {
             assertThrows(PhoneAlreadyExistsException.class,
                     () -> clientService.saveClient(dto, user));
 
-            verify(clientRepository, never()).save(any(Client.class));
+            verify(clientRepository, never()).saveAndFlush(any(Client.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Insert Only Save Operations")
+    class InsertOnlySaveOperations {
+
+        private ClientService insertOnlyService;
+
+        @BeforeEach
+        void setUp() {
+            insertOnlyService = new ClientService(clientRepository, clientCountService, clientSearchIndex,
+                    clientSearchPlanner, clientDataVersions, true);
+        }
+
+        @Test
+        void shouldSaveWithoutExistenceQueries() {
+            User user = new User();
+            user.setId(1L);
+            ClientDTO dto = new ClientDTO("Ada", "ADA@EMAIL.COM", "11999999999");
+
+            insertOnlyService.saveClient(dto, user);
+
+            verify(clientRepository).saveAndFlush(clientCaptor.capture());
+            assertEquals("ada@email.com", clientCaptor.getValue().getEmail());
+            verify(clientRepository, never()).existsClientByEmail(anyString());
+            verify(clientRepository, never()).existsClientByPhone(anyString());
+            verify(clientCountService).add(1L, 1);
+        }
+
+        @Test
+        void shouldTranslateEmailConstraintViolation() {
+            User user = new User();
+            ClientDTO dto = new ClientDTO("Ada", "exist@email.com", "111");
+
+            when(clientRepository.saveAndFlush(any(Client.class)))
+                    .thenThrow(violation(ClientConstraintTranslator.EMAIL_CONSTRAINT));
+
+            assertThrows(EmailAlreadyExistsException.class,
+                    () -> insertOnlyService.saveClient(dto, user));
+
+            verifyNoInteractions(clientCountService, clientSearchIndex);
+        }
+
+        @Test
+        void shouldTranslatePhoneConstraintViolationFromDatabaseDetail() {
+            User user = new User();
+            ClientDTO dto = new ClientDTO("Ada", "new@email.com", "999");
+
+            // Constraint com nome gerado: a coluna vem do detalhe da mensagem do Postgres
+            when(clientRepository.saveAndFlush(any(Client.class))).thenThrow(new DataIntegrityViolationException(
+                    "duplicate", new SQLException("ERROR: duplicate key value violates unique constraint "
+                    + "\"uk8a9sn1ou\"\n  Detail: Key (phone)=(999) already exists.")));
+
+            assertThrows(PhoneAlreadyExistsException.class,
+                    () -> insertOnlyService.saveClient(dto, user));
+        }
+
+        @Test
+        void shouldRethrowUnrelatedIntegrityViolation() {
+            User user = new User();
+            ClientDTO dto = new ClientDTO("Ada", "new@email.com", "999");
+
+            when(clientRepository.saveAndFlush(any(Client.class))).thenThrow(violation("fk_clients_owner"));
+
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> insertOnlyService.saveClient(dto, user));
+        }
+
+        // Só o lado do serviço: com a constraint simulada, cada perdedor da corrida vira 409.
+        // A tradução de um erro real do Postgres está em ClientConstraintTranslatorTest
+        @Test
+        void shouldTurnEveryLosingConcurrentCreateIntoEmailConflict() throws Exception {
+            int threads = 16;
+            Set<String> emails = ConcurrentHashMap.newKeySet();
+
+            // Simula a constraint única do banco
+            when(clientRepository.saveAndFlush(any(Client.class))).thenAnswer(invocation -> {
+                Client client = invocation.getArgument(0);
+                if (!emails.add(client.getEmail())) {
+                    throw violation(ClientConstraintTranslator.EMAIL_CONSTRAINT);
+                }
+                return client;
+            });
+
+            AtomicInteger created = new AtomicInteger();
+            AtomicInteger duplicated = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+            for (int i = 0; i < threads; i++) {
+                String phone = String.format("119%08d", i);
+                pool.submit(() -> {
+                    User user = new User();
+                    user.setId(1L);
+                    start.await();
+                    try {
+                        insertOnlyService.saveClient(new ClientDTO("Ada", "race@email.com", phone), user);
+                        created.incrementAndGet();
+                    } catch (EmailAlreadyExistsException e) {
+                        duplicated.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(1, created.get());
+            assertEquals(threads - 1, duplicated.get());
         }
     }
 
@@ -120,136 +275,289 @@ class ClientServiceTest {
             assertEquals(requestedPage, capturedRequest.getPageNumber());
             assertEquals(11, capturedRequest.getPageSize());
         }
-    }
 
-    @Nested
-    @DisplayName("Update Operations")
-    class UpdateOperations {
+        // As consultas combinadas comparam com nameNorm: o termo vai sem acentos e em minúsculas
+        @Test
+        void shouldNormalizeSearchTermForCombinedQueries() {
+            User user = new User();
+            user.setId(1L);
+
+            when(clientRepository.findSearchClientByOwner_Id(eq(1L), eq("joao"), any(PageRequest.class)))
+                    .thenReturn(new PageImpl<>(Collections.emptyList()));
+            when(clientRepository.findFirstSearchClients(eq(1L), eq("joao"), any(Sort.class), any(Limit.class)))
+                    .thenReturn(List.of());
+
+            clientService.getClients(user, 0, " João ");
+            clientService.getClientsByCursor(user, "", "JOÃO", ClientSort.CREATED_AT);
+
+            verify(clientRepository).findSearchClientByOwner_Id(eq(1L), eq("joao"), any(PageRequest.class));
+            verify(clientRepository).findFirstSearchClients(eq(1L), eq("joao"), any(Sort.class), any(Limit.class));
+        }
 
         @Test
-        void shouldUpdateClientSuccessfullyWithEmailNormalization() {
-            User owner = new User();
-            owner.setId(1L);
-            Client existingClient = new Client();
-            existingClient.setId(10L);
-            existingClient.setOwner(owner);
-            existingClient.setEmail("old@email.com");
-            existingClient.setPhone("000");
+        void shouldServeApproximateTotalFromCounterWithoutCountQuery() {
+            User user = new User();
+            user.setId(1L);
 
-            ClientDTO dto = new ClientDTO("Updated Name", "NEW@EMAIL.COM", "111");
+            when(clientCountService.isCounterMode()).thenReturn(true);
+            when(clientCountService.total(1L)).thenReturn(42L);
+            when(clientRepository.findSearchClientSliceByOwner_Id(eq(1L), isNull(), any(PageRequest.class)))
+                    .thenReturn(new SliceImpl<>(items(1, 11), PageRequest.of(0, 11), true));
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(false);
-            when(clientRepository.existsClientByPhone(dto.phone())).thenReturn(false);
+            ClientOffsetPage result = clientService.getClientsPage(user, 0, null);
 
-            clientService.updateClient(10L, dto, owner);
+            assertEquals(42L, result.total());
+            assertFalse(result.totalExact());
+            assertTrue(result.hasMore());
+            verify(clientRepository, never()).findSearchClientByOwner_Id(any(), any(), any());
+        }
 
-            verify(clientRepository).save(clientCaptor.capture());
-            Client capturedClient = clientCaptor.getValue();
+        @Test
+        void shouldEstimateTotalWhenSearching() {
+            User user = new User();
+            user.setId(1L);
 
-            assertEquals("new@email.com", capturedClient.getEmail());
-            assertEquals(dto.name(), capturedClient.getName());
-            assertEquals(dto.phone(), capturedClient.getPhone());
+            when(clientCountService.isCounterMode()).thenReturn(true);
+            when(clientRepository.findNameSearchSlice(eq(1L), eq("ana"), any(PageRequest.class)))
+                    .thenReturn(new SliceImpl<>(items(1, 11), PageRequest.of(2, 11), true));
+
+            ClientOffsetPage result = clientService.getClientsPage(user, 2, "ana");
+
+            assertEquals(34L, result.total());
+            assertFalse(result.totalExact());
+            verify(clientCountService, never()).total(anyLong());
         }
 
         @Test
-        void shouldUpdateSuccessfullyWhenEmailIsSameString() {
-            User owner = new User();
-            owner.setId(1L);
-            Client existingClient = new Client();
-            existingClient.setId(10L);
-            existingClient.setOwner(owner);
-            existingClient.setEmail("same@email.com");
+        void shouldResolveSearchThroughIndexWhenAvailable() {
+            User user = new User();
+            user.setId(1L);
+            long[] matchedIds = LongStream.rangeClosed(1, 15).toArray();
 
-            ClientDTO dto = new ClientDTO("Name", "same@email.com", "111");
+            when(clientSearchIndex.search(1L, "ana")).thenReturn(matchedIds);
+            when(clientRepository.findItemsByOwnerIdAndIdIn(eq(1L), eq(List.of(12L, 13L, 14L, 15L))))
+                    .thenReturn(items(12, 15).reversed());
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(true);
-            when(clientRepository.existsClientByPhone(dto.phone())).thenReturn(false);
+            ClientOffsetPage result = clientService.getClientsPage(user, 1, "ana");
 
-            assertDoesNotThrow(() -> clientService.updateClient(10L, dto, owner));
+            assertEquals(15L, result.total());
+            assertTrue(result.totalExact());
+            assertFalse(result.hasMore());
+            assertEquals(12L, result.clients().getFirst().id());
+            verify(clientRepository, never()).findSearchClientSliceByOwner_Id(any(), any(), any());
+        }
 
-            verify(clientRepository).save(any(Client.class));
+        @Test
+        void shouldDispatchDigitsOnlySearchToPhoneQuery() {
+            User user = new User();
+            user.setId(1L);
+
+            when(clientCountService.isCounterMode()).thenReturn(true);
+            when(clientRepository.findPhoneSearchSlice(eq(1L), eq("9876"), any(PageRequest.class)))
+                    .thenReturn(new SliceImpl<>(items(1, 2), PageRequest.of(0, 11), false));
+
+            ClientOffsetPage result = clientService.getClientsPage(user, 0, "9876");
+
+            assertEquals(2, result.clients().size());
+            verify(clientRepository, never()).findNameSearchSlice(any(), any(), any());
+            verify(clientRepository, never()).findEmailSearchSlice(any(), any(), any());
+        }
+
+        @Test
+        void shouldSearchCompleteEmailByContainsSoLongerAddressesStillMatch() {
+            User user = new User();
+            user.setId(1L);
+
+            when(clientCountService.isCounterMode()).thenReturn(true);
+            when(clientRepository.findEmailSearchSlice(eq(1L), eq("ana@gmail.com"), any(PageRequest.class)))
+                    .thenReturn(new SliceImpl<>(items(1, 2), PageRequest.of(0, 11), false));
+
+            ClientOffsetPage result = clientService.getClientsPage(user, 0, "Ana@Gmail.com");
+
+            assertEquals(2, result.clients().size());
+            verify(clientRepository, never()).findNameSearchSlice(any(), any(), any());
         }
 
         @Test
-        void shouldThrowEmailAlreadyExistsWhenEmailIsDifferentAndExists() {
+        void shouldUseExactCountWhenCounterModeIsDisabled() {
+            User user = new User();
+            user.setId(1L);
+
+            when(clientCountService.isCounterMode()).thenReturn(false);
+            when(clientRepository.findSearchClientByOwner_Id(eq(1L), isNull(), any(PageRequest.class)))
+                    .thenReturn(new PageImpl<>(clients(1, 3), PageRequest.of(0, 11), 3));
+
+            ClientOffsetPage result = clientService.getClientsPage(user, 0, null);
+
+            assertEquals(3L, result.total());
+            assertTrue(result.totalExact());
+            assertFalse(result.hasMore());
+        }
+
+        @Test
+        void shouldReturnFirstCursorPageWithNextCursorWhenMoreRowsExist() {
+            User user = new User();
+            user.setId(1L);
+            List<ClientResponseItemsDTO> rows = items(1, 12);
+
+            when(clientRepository.findFirstSearchClients(eq(1L), isNull(),
+                    any(Sort.class), any(Limit.class)))
+                    .thenReturn(rows);
+
+            ClientCursorPage result = clientService.getClientsByCursor(user, "", null, ClientSort.CREATED_AT);
+
+            assertEquals(11, result.clients().size());
+            assertNull(result.prevCursor());
+
+            ClientCursor next = ClientCursor.decode(result.nextCursor());
+            assertFalse(next.backward());
+            assertEquals(11L, next.id());
+            assertEquals(rows.get(10).createdAt(), next.createdAt());
+        }
+
+        @Test
+        void shouldSeekAfterCursorAndOmitNextCursorOnLastPage() {
+            User user = new User();
+            user.setId(1L);
+            ClientResponseItemsDTO anchor = items(11, 11).getFirst();
+            String cursor = ClientCursor.after(ClientSort.CREATED_AT, anchor).encode();
+
+            when(clientRepository.findSearchClientsAfterCreatedAt(eq(1L), isNull(),
+                    eq(anchor.createdAt()), eq(11L), any(Limit.class)))
+                    .thenReturn(items(12, 15));
+
+            ClientCursorPage result = clientService.getClientsByCursor(user, cursor, null, ClientSort.CREATED_AT);
+
+            assertEquals(4, result.clients().size());
+            assertNull(result.nextCursor());
+            assertEquals(12L, ClientCursor.decode(result.prevCursor()).id());
+        }
+
+        @Test
+        void shouldSeekBeforeCursorAndRestoreAscendingOrder() {
+            User user = new User();
+            user.setId(1L);
+            ClientResponseItemsDTO anchor = new ClientResponseItemsDTO(20L, "Maria", null, null, null, null);
+            String cursor = ClientCursor.before(ClientSort.NAME, anchor).encode();
+
+            List<ClientResponseItemsDTO> descending = items(8, 19).reversed();
+            when(clientRepository.findSearchClientsBeforeName(eq(1L), isNull(),
+                    eq("Maria"), eq(20L), any(Limit.class)))
+                    .thenReturn(descending);
+
+            ClientCursorPage result = clientService.getClientsByCursor(user, cursor, null, ClientSort.NAME);
+
+            assertEquals(11, result.clients().size());
+            assertEquals(9L, result.clients().getFirst().id());
+            assertEquals(19L, result.clients().getLast().id());
+            assertEquals(9L, ClientCursor.decode(result.prevCursor()).id());
+            assertEquals(19L, ClientCursor.decode(result.nextCursor()).id());
+        }
+
+        @Test
+        void shouldRejectMalformedCursor() {
+            User user = new User();
+            user.setId(1L);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> clientService.getClientsByCursor(user, "not-a-cursor", null, ClientSort.CREATED_AT));
+        }
+
+        private List<ClientResponseItemsDTO> items(long fromId, long toId) {
+            return clients(fromId, toId).stream().map(ClientResponseItemsDTO::from).toList();
+        }
+
+        private List<Client> clients(long fromId, long toId) {
+            return LongStream.rangeClosed(fromId, toId)
+                    .mapToObj(id -> {
+                        Client client = new Client();
+                        client.setId(id);
+                        client.setName("Cliente " + id);
+                        client.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id));
+                        return client;
+                    })
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Operations")
+    class UpdateOperations {
+
+        @Test
+        void shouldUpdateClientSuccessfullyWithEmailNormalization() {
             User owner = new User();
             owner.setId(1L);
-            Client existingClient = new Client();
-            existingClient.setId(10L);
-            existingClient.setOwner(owner);
-            existingClient.setEmail("current@email.com");
+            ClientDTO dto = new ClientDTO("Updated Name", "NEW@EMAIL.COM", "111");
+
+            when(clientRepository.updateByIdAndOwnerId(eq(10L), eq(1L), eq("Updated Name"), eq("updated name"),
+                    eq("new@email.com"), eq("111"), any(LocalDateTime.class))).thenReturn(1);
 
+            clientService.updateClient(10L, dto, owner);
+
+            verify(clientRepository, never()).findById(anyLong());
+            verify(clientRepository, never()).existsClientByEmail(anyString());
+            verify(clientRepository, never()).existsById(anyLong());
+            verify(clientSearchIndex).onSaved(1L, new ClientSearchRow(10L, "Updated Name", "new@email.com", "111"));
+            verify(clientDataVersions).bump(1L);
+        }
+
+        @Test
+        void shouldThrowEmailAlreadyExistsWhenConstraintIsViolated() {
+            User owner = new User();
+            owner.setId(1L);
             ClientDTO dto = new ClientDTO("Name", "other@email.com", "111");
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(true);
+            when(clientRepository.updateByIdAndOwnerId(eq(10L), eq(1L), any(), any(), any(), any(), any()))
+                    .thenThrow(violation(ClientConstraintTranslator.EMAIL_CONSTRAINT));
 
             assertThrows(EmailAlreadyExistsException.class,
                     () -> clientService.updateClient(10L, dto, owner));
 
-            verify(clientRepository, never()).save(any(Client.class));
+            verifyNoInteractions(clientSearchIndex);
         }
 
         @Test
-        void shouldThrowPhoneAlreadyExistsWhenPhoneIsDifferentAndExists() {
+        void shouldThrowPhoneAlreadyExistsWhenConstraintIsViolated() {
             User owner = new User();
             owner.setId(1L);
-            Client existingClient = new Client();
-            existingClient.setId(10L);
-            existingClient.setOwner(owner);
-            existingClient.setEmail("email@email.com");
-            existingClient.setPhone("123");
-
             ClientDTO dto = new ClientDTO("Name", "email@email.com", "456");
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(false);
-            when(clientRepository.existsClientByPhone(dto.phone())).thenReturn(true);
+            when(clientRepository.updateByIdAndOwnerId(eq(10L), eq(1L), any(), any(), any(), any(), any()))
+                    .thenThrow(violation(ClientConstraintTranslator.PHONE_CONSTRAINT));
 
             assertThrows(PhoneAlreadyExistsException.class,
                     () -> clientService.updateClient(10L, dto, owner));
-
-            verify(clientRepository, never()).save(any(Client.class));
         }
 
         @Test
         void shouldThrowUserIsNotOwner() {
-            User owner = new User();
-            owner.setId(1L);
             User intruder = new User();
             intruder.setId(2L);
-
-            Client existingClient = new Client();
-            existingClient.setId(10L);
-            existingClient.setOwner(owner);
-            existingClient.setEmail("any@email.com");
-            existingClient.setPhone("111");
-
             ClientDTO dto = new ClientDTO("Name", "any@email.com", "111");
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(existingClient));
-            when(clientRepository.existsClientByEmail(dto.email())).thenReturn(false);
-            when(clientRepository.existsClientByPhone(dto.phone())).thenReturn(false);
+            when(clientRepository.updateByIdAndOwnerId(eq(10L), eq(2L), any(), any(), any(), any(), any()))
+                    .thenReturn(0);
+            when(clientRepository.existsById(10L)).thenReturn(true);
 
             assertThrows(UserIsNotOwnerClientException.class,
                     () -> clientService.updateClient(10L, dto, intruder));
 
-            verify(clientRepository, never()).save(any(Client.class));
+            verifyNoInteractions(clientSearchIndex);
         }
 
         @Test
         void shouldThrowClientNotFound() {
             User user = new User();
+            user.setId(1L);
             ClientDTO dto = new ClientDTO("Name", "email", "phone");
 
-            when(clientRepository.findById(99L)).thenReturn(Optional.empty());
+            when(clientRepository.updateByIdAndOwnerId(eq(99L), eq(1L), any(), any(), any(), any(), any()))
+                    .thenReturn(0);
+            when(clientRepository.existsById(99L)).thenReturn(false);
 
             assertThrows(ClientNotFoundException.class,
                     () -> clientService.updateClient(99L, dto, user));
-
-            verify(clientRepository, never()).save(any(Client.class));
         }
     }
 
@@ -261,45 +569,49 @@ class ClientServiceTest {
         void shouldDeleteClientSuccessfully() {
             User owner = new User();
             owner.setId(1L);
-            Client client = new Client();
-            client.setId(10L);
-            client.setOwner(owner);
 
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(client));
+            when(clientRepository.deleteByIdAndOwnerId(10L, 1L)).thenReturn(1);
 
             clientService.deleteClient(10L, owner);
 
-            verify(clientRepository).delete(client);
+            verify(clientRepository, never()).findById(anyLong());
+            verify(clientRepository, never()).existsById(anyLong());
+            verify(clientCountService).add(1L, -1);
+            verify(clientSearchIndex).onDeleted(1L, 10L);
+            verify(clientDataVersions).bump(1L);
         }
 
         @Test
         void shouldThrowUserIsNotOwner() {
-            User owner = new User();
-            owner.setId(1L);
             User intruder = new User();
             intruder.setId(2L);
 
-            Client client = new Client();
-            client.setId(10L);
-            client.setOwner(owner);
-
-            when(clientRepository.findById(10L)).thenReturn(Optional.of(client));
+            when(clientRepository.deleteByIdAndOwnerId(10L, 2L)).thenReturn(0);
+            when(clientRepository.existsById(10L)).thenReturn(true);
 
             assertThrows(UserIsNotOwnerClientException.class,
                     () -> clientService.deleteClient(10L, intruder));
 
-            verify(clientRepository, never()).delete(any(Client.class));
+            verifyNoInteractions(clientCountService);
         }
 
         @Test
         void shouldThrowClientNotFound() {
             User user = new User();
-            when(clientRepository.findById(99L)).thenReturn(Optional.empty());
+            user.setId(1L);
+
+            when(clientRepository.deleteByIdAndOwnerId(99L, 1L)).thenReturn(0);
+            when(clientRepository.existsById(99L)).thenReturn(false);
 
             assertThrows(ClientNotFoundException.class,
                     () -> clientService.deleteClient(99L, user));
 
-            verify(clientRepository, never()).delete(any(Client.class));
+            verifyNoInteractions(clientCountService);
         }
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException violation(String constraint) {
+        return new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate"), constraint));
+    }
+}
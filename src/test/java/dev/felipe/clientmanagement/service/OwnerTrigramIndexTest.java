@@ -0,0 +1,90 @@
+package dev.felipe.clientmanagement.service;
+
+import dev.felipe.clientmanagement.dto.client.ClientSearchRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OwnerTrigramIndexTest {
+
+    @Nested
+    @DisplayName("Search Operations")
+    class SearchOperations {
+
+        @Test
+        void shouldMatchNameEmailAndPhoneIgnoringCase() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+            index.put(new ClientSearchRow(1L, "Maria Silva", "maria@email.com", "11988887777"));
+            index.put(new ClientSearchRow(2L, "João Souza", "joao@corp.com", "21977776666"));
+            index.put(new ClientSearchRow(3L, "Ana Maria", "ana@corp.com", "31966665555"));
+
+            assertArrayEquals(new long[]{1L, 3L}, index.search("MARIA"));
+            assertArrayEquals(new long[]{2L, 3L}, index.search("corp.com"));
+            assertArrayEquals(new long[]{2L}, index.search("9777"));
+            assertArrayEquals(new long[0], index.search("xyz"));
+        }
+
+        @Test
+        void shouldFoldAccentsInNamesAndTerms() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+            index.put(new ClientSearchRow(1L, "João Conceição", "jc@email.com", "11988887777"));
+            index.put(new ClientSearchRow(2L, "Joana Lima", "joana@email.com", "11911112222"));
+
+            assertArrayEquals(new long[]{1L}, index.search("joao"));
+            assertArrayEquals(new long[]{1L}, index.search("CONCEIÇÃO"));
+            assertArrayEquals(new long[]{1L, 2L}, index.search("joa"));
+        }
+
+        @Test
+        void shouldNotMatchWhenTrigramsComeFromDifferentFields() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+            index.put(new ClientSearchRow(1L, "abc", "xyz@mail.com", "1234567890"));
+
+            // "abcxyz" tem trigramas presentes nos dois campos, mas não é substring de nenhum
+            assertArrayEquals(new long[0], index.search("abcxyz"));
+        }
+
+        @Test
+        void shouldReturnNullForShortTerms() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+
+            assertNull(index.search("ab"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Operations")
+    class WriteOperations {
+
+        @Test
+        void shouldReplaceUpdatedClientAndDropRemovedClient() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+            index.put(new ClientSearchRow(1L, "Maria", "maria@email.com", "11988887777"));
+            index.put(new ClientSearchRow(2L, "Pedro", "pedro@email.com", "11911112222"));
+
+            index.put(new ClientSearchRow(1L, "Mariana", "mariana@email.com", "11988887777"));
+            index.remove(2L);
+
+            assertArrayEquals(new long[]{1L}, index.search("mariana"));
+            assertArrayEquals(new long[0], index.search("pedro"));
+            assertEquals(1, index.size());
+        }
+
+        @Test
+        void shouldKeepResultsAfterCompaction() {
+            OwnerTrigramIndex index = new OwnerTrigramIndex();
+            for (long id = 1; id <= 5_000; id++) {
+                index.put(new ClientSearchRow(id, "Cliente " + id, "c" + id + "@email.com", "119" + id));
+            }
+            for (long id = 1; id <= 4_000; id++) {
+                index.remove(id);
+            }
+            index.put(new ClientSearchRow(4_999L, "Cliente Final", "final@email.com", "11900000000"));
+
+            assertEquals(1_000, index.size());
+            assertArrayEquals(new long[]{4_999L}, index.search("final"));
+            assertArrayEquals(new long[]{4_500L}, index.search("c4500@"));
+        }
+    }
+}
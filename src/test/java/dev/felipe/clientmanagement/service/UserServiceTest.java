@@ -7,7 +7,9 @@ import dev.felipe.clientmanagement.exception.domain.EmailAlreadyExistsException;
 import dev.felipe.clientmanagement.exception.domain.InvalidCredentialsException;
 import dev.felipe.clientmanagement.model.User;
 import dev.felipe.clientmanagement.repository.UserRepository;
+import dev.felipe.clientmanagement.security.PrincipalCache;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -16,9 +18,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +38,10 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private PrincipalCache principalCache =
+            new PrincipalCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -118,6 +126,23 @@ class UserServiceTest {
 
             assertThrows(InvalidCredentialsException.class, () -> userService.authenticateUser(dto));
         }
+
+        @Test
+        void shouldRehashPasswordWhenEncodingNeedsUpgrade() {
+            UserLoginDTO dto = new UserLoginDTO("user@email.com", "password");
+            User existingUser = new User();
+            existingUser.setPassword("legacyHash");
+
+            when(userRepository.findByEmail(dto.email())).thenReturn(Optional.of(existingUser));
+            when(passwordEncoder.matches(dto.password(), "legacyHash")).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding("legacyHash")).thenReturn(true);
+            when(passwordEncoder.encode(dto.password())).thenReturn("{bcrypt}newHash");
+
+            userService.authenticateUser(dto);
+
+            verify(userRepository).save(userCaptor.capture());
+            assertEquals("{bcrypt}newHash", userCaptor.getValue().getPassword());
+        }
     }
 
     @Nested
@@ -245,5 +270,53 @@ class UserServiceTest {
 
             verify(userRepository).findById(99L);
         }
+
+        @Test
+        void shouldServeRepeatedLookupsFromCache() {
+            Claims claimsMock = mock(Claims.class);
+            when(claimsMock.getSubject()).thenReturn("1");
+
+            User expectedUser = new User();
+            expectedUser.setId(1L);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(expectedUser));
+
+            userService.findUserByClaim(claimsMock);
+            User result = userService.findUserByClaim(claimsMock);
+
+            assertSame(expectedUser, result);
+            verify(userRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        void shouldReloadUserAfterUpdate() {
+            Claims claimsMock = mock(Claims.class);
+            when(claimsMock.getSubject()).thenReturn("1");
+
+            User existingUser = new User();
+            existingUser.setId(1L);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
+
+            userService.findUserByClaim(claimsMock);
+            userService.updateUser(1L, new UserUpdateDTO("New Name"));
+            userService.findUserByClaim(claimsMock);
+
+            verify(principalCache).invalidate(1L);
+            // 1 carga inicial, 1 no update e 1 recarga após a invalidação
+            verify(userRepository, times(3)).findById(1L);
+        }
+
+        @Test
+        void shouldInvalidateCacheWhenUserIsDeleted() {
+            User existingUser = new User();
+            existingUser.setId(1L);
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
+
+            userService.deleteUser(1L);
+
+            verify(principalCache).invalidate(1L);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package dev.felipe.clientmanagement.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileResponseUtilsTest {
+
+    private static final String ETAG = "\"abc-1-1-csv\"";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path directory;
+
+    @Nested
+    @DisplayName("Range Parsing Operations")
+    class RangeParsing {
+
+        @Test
+        void shouldParseClosedOpenAndSuffixRanges() {
+            assertEquals(new FileResponseUtils.ByteRange(2, 5), FileResponseUtils.parseRange("bytes=2-5", 10));
+            assertEquals(new FileResponseUtils.ByteRange(4, 9), FileResponseUtils.parseRange("bytes=4-", 10));
+            assertEquals(new FileResponseUtils.ByteRange(7, 9), FileResponseUtils.parseRange("bytes=-3", 10));
+            assertEquals(new FileResponseUtils.ByteRange(0, 9), FileResponseUtils.parseRange("bytes=-30", 10));
+            assertEquals(new FileResponseUtils.ByteRange(8, 9), FileResponseUtils.parseRange("bytes=8-100", 10));
+        }
+
+        @Test
+        void shouldIgnoreMissingInvalidAndMultipleRanges() {
+            assertNull(FileResponseUtils.parseRange(null, 10));
+            assertNull(FileResponseUtils.parseRange("items=0-5", 10));
+            assertNull(FileResponseUtils.parseRange("bytes=5-2", 10));
+            assertNull(FileResponseUtils.parseRange("bytes=a-b", 10));
+            assertNull(FileResponseUtils.parseRange("bytes=0-1,4-5", 10));
+        }
+
+        @Test
+        void shouldReportUnsatisfiableRanges() {
+            assertSame(FileResponseUtils.UNSATISFIABLE, FileResponseUtils.parseRange("bytes=10-", 10));
+            assertSame(FileResponseUtils.UNSATISFIABLE, FileResponseUtils.parseRange("bytes=-0", 10));
+            assertSame(FileResponseUtils.UNSATISFIABLE, FileResponseUtils.parseRange("bytes=0-", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Serve Operations")
+    class ServeOperations {
+
+        @Test
+        void shouldServeWholeFileWithEtagAndAcceptRanges() throws IOException {
+            MockHttpServletResponse response = serve(new MockHttpServletRequest());
+
+            assertEquals(200, response.getStatus());
+            assertEquals(CONTENT, response.getContentAsString());
+            assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+            assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+            assertEquals(10, response.getContentLengthLong());
+        }
+
+        @Test
+        void shouldServePartialContentForRange() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+            request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+
+            MockHttpServletResponse response = serve(request);
+
+            assertEquals(206, response.getStatus());
+            assertEquals("456789", response.getContentAsString());
+            assertEquals("bytes 4-9/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+            assertEquals(6, response.getContentLengthLong());
+        }
+
+        @Test
+        void shouldServeWholeFileWhenIfRangeDoesNotMatch() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+            request.addHeader(HttpHeaders.IF_RANGE, "\"outra-versao\"");
+
+            MockHttpServletResponse response = serve(request);
+
+            assertEquals(200, response.getStatus());
+            assertEquals(CONTENT, response.getContentAsString());
+        }
+
+        @Test
+        void shouldRejectUnsatisfiableRange() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+            MockHttpServletResponse response = serve(request);
+
+            assertEquals(416, response.getStatus());
+            assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+            assertEquals("", response.getContentAsString());
+        }
+
+        @Test
+        void shouldAnswerNotModifiedWhenEtagMatches() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"outra\", W/" + ETAG);
+
+            MockHttpServletResponse response = serve(request);
+
+            assertEquals(304, response.getStatus());
+            assertEquals("", response.getContentAsString());
+        }
+
+        // O canal já aberto é a fonte mesmo com sendfile disponível: o arquivo pode sumir do cache
+        @Test
+        void shouldStreamFromOpenChannelEvenWhenSendfileIsSupported() throws IOException {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+            request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+            MockHttpServletResponse response = serve(request);
+
+            assertEquals(206, response.getStatus());
+            assertEquals("2345", response.getContentAsString());
+            assertNull(request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        }
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        Path file = Files.writeString(directory.resolve("export.csv"), CONTENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            FileResponseUtils.serve(request, response, channel, channel.size(), ETAG);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.felipe.clientmanagement.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchUtilsTest {
+
+    @Nested
+    @DisplayName("Normalization Operations")
+    class Normalization {
+
+        @Test
+        void shouldLowercaseAndFoldAccentsInName() {
+            assertEquals("joao conceicao", SearchUtils.normalizeName("  João Conceição "));
+            assertEquals("andre muller", SearchUtils.normalizeName("ANDRÉ MÜLLER"));
+        }
+
+        @Test
+        void shouldLowercaseAndTrimEmail() {
+            assertEquals("maria@email.com", SearchUtils.normalizeEmail(" Maria@Email.COM "));
+        }
+
+        @Test
+        void shouldKeepOnlyDigitsInPhone() {
+            assertEquals("11988887777", SearchUtils.normalizePhone("(11) 98888-7777"));
+        }
+
+        @Test
+        void shouldReturnNullForNullInput() {
+            assertNull(SearchUtils.normalizeName(null));
+            assertNull(SearchUtils.normalizeEmail(null));
+            assertNull(SearchUtils.normalizePhone(null));
+        }
+    }
+}